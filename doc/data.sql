@@ -1,3 +1,5 @@
+-- Script historique de creation du schema. Le schema de l'application est desormais gere par les
+-- migrations Flyway (src/main/resources/db/migration), appliquees automatiquement au demarrage.
 
 CREATE TABLE Bidlist (
   bid_list_id bigint NOT NULL AUTO_INCREMENT,
@@ -96,6 +98,20 @@ CREATE TABLE Users (
   PRIMARY KEY (Id)
 );
 
+-- Tables de blocs d'identifiants (une ligne next_val par entite, optimiseur pooled-lo).
+-- Initialisees a MAX(id) + 1 pour reprendre la numerotation existante.
+CREATE TABLE trade_seq (next_val bigint);
+INSERT INTO trade_seq SELECT COALESCE(MAX(trade_id), 0) + 1 FROM Trade;
+
+CREATE TABLE curvepoint_seq (next_val bigint);
+INSERT INTO curvepoint_seq SELECT COALESCE(MAX(id), 0) + 1 FROM CurvePoint;
+
+CREATE TABLE rating_seq (next_val bigint);
+INSERT INTO rating_seq SELECT COALESCE(MAX(id), 0) + 1 FROM Rating;
+
+CREATE TABLE rulename_seq (next_val bigint);
+INSERT INTO rulename_seq SELECT COALESCE(MAX(id), 0) + 1 FROM RuleName;
+
 insert into Users(fullname, username, password, role) values("Administrator", "admin", "$2a$10$JRe604YPPx7Ewy6/PK.UCeEyiIDY13grNnzXFuKPVhK0VpFOyhkPG", "ADMIN");
 insert into Users(fullname, username, password, role) values("User", "user", "$2a$10$JRe604YPPx7Ewy6/PK.UCeEyiIDY13grNnzXFuKPVhK0VpFOyhkPG", "USER");
 
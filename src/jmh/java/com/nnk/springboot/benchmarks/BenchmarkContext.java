@@ -0,0 +1,103 @@
+package com.nnk.springboot.benchmarks;
+
+import com.nnk.springboot.Application;
+import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.domain.User;
+import com.nnk.springboot.repositories.BidListRepository;
+import com.nnk.springboot.repositories.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Démarrage de l'application sur une base H2 embarquée et chargement de volumes réalistes, pour les
+ * benchmarks qui traversent services et persistance.
+ * <p>
+ * Le niveau de journalisation de l'application est relevé à WARN : les traces {@code logger.info} de
+ * chaque appel de service mesureraient la console plutôt que le chemin de données.
+ */
+final class BenchmarkContext {
+
+    /** Nombre de soumissions chargées. */
+    static final int BID_LISTS = 100_000;
+
+    /** Nombre d'utilisateurs chargés. */
+    static final int USERS = 10_000;
+
+    /** Mot de passe commun des utilisateurs chargés. */
+    static final String PASSWORD = "Benchmark1!";
+
+    private static final String[] ACCOUNTS = {"Account A", "Account B", "Account C", "Account D", "Account E"};
+
+    private static final String[] TYPES = {"Type 1", "Type 2", "Type 3"};
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Démarre l'application sur une base H2 en mémoire dédiée, sans chargement de données.
+     *
+     * @param database Le nom de la base H2.
+     * @return Le contexte démarré.
+     */
+    static ConfigurableApplicationContext start(String database) {
+        // Arguments de ligne de commande : prioritaires sur application.properties
+        return new SpringApplicationBuilder(Application.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--app.schema.index-audit.enabled=false",
+                "--logging.level.com.nnk.springboot=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate=WARN");
+    }
+
+    /**
+     * Charge {@link #BID_LISTS} soumissions réparties sur quelques comptes et types.
+     *
+     * @param context Le contexte de l'application.
+     */
+    static void seedBidLists(ConfigurableApplicationContext context) {
+        BidListRepository repository = context.getBean(BidListRepository.class);
+        Random random = new Random(42);
+        List<BidList> chunk = new ArrayList<>(10_000);
+        for (int i = 0; i < BID_LISTS; i++) {
+            BidList bidList = new BidList();
+            bidList.setAccount(ACCOUNTS[random.nextInt(ACCOUNTS.length)]);
+            bidList.setType(TYPES[random.nextInt(TYPES.length)]);
+            bidList.setBidQuantity(1 + random.nextInt(10_000) / 10d);
+            chunk.add(bidList);
+            if (chunk.size() == 10_000) {
+                repository.insertAll(chunk);
+                chunk.clear();
+            }
+        }
+        repository.insertAll(chunk);
+    }
+
+    /**
+     * Charge {@link #USERS} utilisateurs {@code user0..userN}, dont le mot de passe {@link #PASSWORD}
+     * est haché une seule fois avec la force par défaut.
+     *
+     * @param context Le contexte de l'application.
+     */
+    static void seedUsers(ConfigurableApplicationContext context) {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword(hash);
+            user.setFullname("Benchmark User " + i);
+            user.setRole(i % 100 == 0 ? "ADMIN" : "USER");
+            users.add(user);
+        }
+        context.getBean(UserRepository.class).insertAll(users);
+    }
+}
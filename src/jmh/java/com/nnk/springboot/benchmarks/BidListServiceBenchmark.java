@@ -0,0 +1,76 @@
+package com.nnk.springboot.benchmarks;
+
+import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.services.BidListService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de {@code BidListServiceImpl} : insertion unitaire et pagination à différentes
+ * profondeurs, sur {@value BenchmarkContext#BID_LISTS} soumissions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidListServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private BidListService bidListService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("bidlist_benchmark");
+        BenchmarkContext.seedBidLists(context);
+        bidListService = context.getBean(BidListService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BidList insert() {
+        BidList bidList = new BidList();
+        bidList.setAccount("Benchmark Account");
+        bidList.setType("Benchmark Type");
+        bidList.setBidQuantity(10d);
+        return bidListService.insert(bidList);
+    }
+
+    @Benchmark
+    public Slice<BidList> findPaginated(Offset offset) {
+        return bidListService.findPaginated(PageRequest.of(offset.page, 20));
+    }
+
+    /**
+     * Profondeur de pagination, propre au benchmark de lecture.
+     */
+    @State(Scope.Benchmark)
+    public static class Offset {
+
+        /** Numéro de la page lue : début, milieu et fin de la table pour des pages de 20 lignes. */
+        @Param({"0", "100", "2500", "4999"})
+        public int page;
+    }
+}
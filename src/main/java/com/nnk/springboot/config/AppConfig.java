@@ -3,11 +3,14 @@ package com.nnk.springboot.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 /**
  * Configuration de l'encodage du mot de passe
  */
@@ -16,14 +19,32 @@ public class AppConfig {
     private static final Logger logger = LoggerFactory.getLogger(AppConfig.class);
     /**
      * Fournit un encodeur de mots de passe utilisant BCrypt.
+     * <p>
+     * Sans force imposée, la force est calibrée au démarrage pour qu'un hachage dure environ
+     * {@code app.security.bcrypt.target-latency} sur la machine courante. Les mots de passe hachés
+     * avec une force inférieure sont réencodés à la connexion suivante
+     * ({@link CustomUserDetailsService#updatePassword}).
      *
+     * @param strength      Force imposée, 0 pour calibrer ({@code app.security.bcrypt.strength}).
+     * @param targetLatency Durée de hachage visée ({@code app.security.bcrypt.target-latency}).
+     * @param minStrength   Force minimale ({@code app.security.bcrypt.min-strength}).
+     * @param maxStrength   Force maximale ({@code app.security.bcrypt.max-strength}).
      * @return Un PasswordEncoder utilisant BCrypt.
      */
-   @Bean
-    public PasswordEncoder passwordEncoder() {
-        logger.info("genéré le mot de passe");
-        return new BCryptPasswordEncoder();
-
-       }
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:0}") int strength,
+                                           @Value("${app.security.bcrypt.target-latency:100ms}") Duration targetLatency,
+                                           @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${app.security.bcrypt.max-strength:14}") int maxStrength) {
+        if (strength > 0) {
+            logger.info("Encodeur BCrypt de force {} (imposée)", strength);
+            return new BCryptPasswordEncoder(strength);
+        }
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(targetLatency, minStrength, maxStrength);
+        int calibrated = calibrator.calibrate();
+        logger.info("Encodeur BCrypt de force {} : hachage estimé à {} ms pour une cible de {} ms", calibrated,
+                calibrator.estimate(calibrated).toMillis(), targetLatency.toMillis());
+        return new BCryptPasswordEncoder(calibrated);
+    }
 
 }
\ No newline at end of file
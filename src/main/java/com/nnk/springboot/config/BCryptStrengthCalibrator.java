@@ -0,0 +1,87 @@
+package com.nnk.springboot.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Choix de la force BCrypt d'après la durée de hachage mesurée sur la machine courante.
+ * <p>
+ * Le coût de BCrypt double à chaque incrément de force : une mesure à la force minimale (médiane de
+ * trois hachages, après un hachage de chauffe) suffit pour estimer la durée de chaque force. La force
+ * retenue est celle dont la durée estimée est la plus proche de la cible, dans les bornes configurées.
+ */
+public class BCryptStrengthCalibrator {
+
+    private static final int RUNS = 3;
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1";
+
+    private final long targetNanos;
+
+    private final int minStrength;
+
+    private final int maxStrength;
+
+    private final IntToLongFunction hashNanos;
+
+    private long measuredNanos;
+
+    /**
+     * Constructeur.
+     *
+     * @param target      La durée de hachage visée.
+     * @param minStrength La force minimale.
+     * @param maxStrength La force maximale.
+     */
+    public BCryptStrengthCalibrator(Duration target, int minStrength, int maxStrength) {
+        this(target, minStrength, maxStrength, BCryptStrengthCalibrator::hash);
+    }
+
+    BCryptStrengthCalibrator(Duration target, int minStrength, int maxStrength, IntToLongFunction hashNanos) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("Bornes de force BCrypt invalides : " + minStrength + ".." + maxStrength);
+        }
+        this.targetNanos = target.toNanos();
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        this.hashNanos = hashNanos;
+    }
+
+    /**
+     * Mesure la durée de hachage et choisit la force.
+     *
+     * @return La force BCrypt retenue.
+     */
+    public int calibrate() {
+        hashNanos.applyAsLong(minStrength);
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            samples[i] = hashNanos.applyAsLong(minStrength);
+        }
+        Arrays.sort(samples);
+        measuredNanos = Math.max(1, samples[RUNS / 2]);
+
+        double doublings = Math.log((double) targetNanos / measuredNanos) / Math.log(2);
+        return (int) Math.max(minStrength, Math.min(maxStrength, minStrength + Math.round(doublings)));
+    }
+
+    /**
+     * Durée de hachage estimée pour une force, d'après la dernière mesure.
+     *
+     * @param strength La force.
+     * @return La durée estimée.
+     */
+    public Duration estimate(int strength) {
+        return Duration.ofNanos(measuredNanos << (strength - minStrength));
+    }
+
+    private static long hash(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -5,24 +5,31 @@ import com.nnk.springboot.services.UserService;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service personnalisé pour charger les détails d'un utilisateur en fonction de son nom d'utilisateur.
  * <p>
  * Ce service utilise un {@link UserService} pour rechercher les informations d'un utilisateur
  * dans la base de données et les convertir en un objet {@link UserDetails} compatible avec Spring Security.
+ * Les utilisateurs chargés sont conservés dans le {@link UserDetailsCache}, et les autorités sont
+ * partagées par rôle.
+ * <p>
+ * En tant que {@link UserDetailsPasswordService}, il enregistre aussi les mots de passe réencodés par
+ * Spring Security après une connexion réussie, lorsque leur force BCrypt est inférieure à celle de
+ * l'encodeur.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     /**
      * Logger pour enregistrer les événements liés au chargement des utilisateurs.
@@ -34,32 +41,46 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     private final UserService userService;
 
+    private final UserDetailsCache userCache;
+
+    /**
+     * Autorités Spring Security par rôle, créées une seule fois.
+     */
+    private final Map<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+
     /**
      * Constructeur pour injecter le service utilisateur.
      *
      * @param userService Le service utilisateur.
+     * @param userCache   Le cache des utilisateurs chargés.
      */
-    public CustomUserDetailsService(UserService userService) {
+    public CustomUserDetailsService(UserService userService, UserDetailsCache userCache) {
         this.userService = userService;
+        this.userCache = userCache;
     }
 
     /**
      * Charge un utilisateur par son nom d'utilisateur.
      * <p>
-     * Cette méthode recherche l'utilisateur dans la base de données via {@link UserService}.
-     * Si l'utilisateur est trouvé, ses informations sont converties en un objet
-     * {@link UserDetails} comprenant ses rôles pour Spring Security.
+     * Cette méthode recherche l'utilisateur dans le cache, puis dans la base de données via
+     * {@link UserService}. Si l'utilisateur est trouvé, ses informations sont converties en un objet
+     * {@link UserDetails} comprenant ses rôles pour Spring Security, mis en cache.
      *
      * @param username Le nom d'utilisateur.
      * @return Les détails de l'utilisateur.
      * @throws UsernameNotFoundException Si l'utilisateur n'est pas trouvé.
      */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = userCache.getUserFromCache(username);
+        if (cached != null) {
+            logger.debug("Utilisateur {} servi par le cache.", username);
+            return cached;
+        }
         logger.info("Chargement des détails de l'utilisateur avec le nom d'utilisateur : {}", username);
 
-        // Recherche de l'utilisateur dans la base de données
+        // Recherche de l'utilisateur dans la base de données, l'époque du cache relevée avant la lecture
+        long epoch = userCache.epoch();
         User user = userService.findByUsername(username);
         if (user == null) {
             logger.error("Utilisateur non trouvé avec le nom d'utilisateur : {}", username);
@@ -69,27 +90,48 @@ public class CustomUserDetailsService implements UserDetailsService {
         logger.info("Utilisateur trouvé : {} avec le rôle : {}", user.getUsername(), user.getRole());
 
         // Retourne un objet UserDetails pour Spring Security
-        return new org.springframework.security.core.userdetails.User(
+        UserDetails userDetails = new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 user.getPassword(),
                 true, true, true, true,
                 getAuthorities(user.getRole())
         );
+        userCache.putUserInCache(userDetails, epoch);
+        return userDetails;
+    }
+
+    /**
+     * Enregistre le mot de passe réencodé d'un utilisateur qui vient de se connecter.
+     *
+     * @param user        L'utilisateur authentifié.
+     * @param newPassword Le mot de passe encodé avec la force courante.
+     * @return L'utilisateur avec son nouveau mot de passe.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (!userService.updateEncodedPassword(user.getUsername(), newPassword)) {
+            logger.warn("Réencodage du mot de passe impossible : utilisateur {} introuvable.", user.getUsername());
+            return user;
+        }
+        logger.info("Mot de passe de l'utilisateur {} réencodé avec la force courante.", user.getUsername());
+        UserDetails updated = org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+        userCache.putUserInCache(updated);
+        return updated;
     }
 
     /**
      * Convertit le rôle de l'utilisateur en une liste d'autorisations reconnues par Spring Security.
+     * La liste, immuable, est créée au premier utilisateur de chaque rôle puis partagée.
      *
      * @param roleUser Le rôle de l'utilisateur.
      * @return Une liste d'autorisations.
      */
     private List<GrantedAuthority> getAuthorities(String roleUser) {
-        logger.debug("Conversion du rôle '{}' en autorité Spring Security.", roleUser);
-
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + roleUser));
-
-        logger.info("Autorités assignées : {}", authorities);
-        return authorities;
+        return authoritiesByRole.computeIfAbsent(roleUser, role -> {
+            logger.debug("Conversion du rôle '{}' en autorité Spring Security.", role);
+            return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        });
     }
 }
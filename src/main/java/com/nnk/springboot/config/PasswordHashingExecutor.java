@@ -0,0 +1,191 @@
+package com.nnk.springboot.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Exécuteur dédié au hachage des mots de passe.
+ * <p>
+ * Un hachage BCrypt occupe un cœur pendant environ {@code app.security.bcrypt.target-latency} : les
+ * hachages s'exécutent sur un nombre fixe de threads ({@code app.security.hashing.threads}, par défaut
+ * le nombre de processeurs) derrière une file bornée ({@code app.security.hashing.queue-capacity}).
+ * File pleine, la demande est refusée par une {@link RejectedExecutionException} au lieu de s'accumuler :
+ * un afflux de créations d'utilisateurs ne peut ni saturer les cœurs ni retenir indéfiniment les
+ * threads Tomcat.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final int queueCapacity;
+
+    private final LongAdder hashed = new LongAdder();
+
+    private final LongAdder hashNanos = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructeur.
+     *
+     * @param passwordEncoder L'encodeur de mots de passe.
+     * @param threads         Nombre de threads, 0 pour le nombre de processeurs ({@code app.security.hashing.threads}).
+     * @param queueCapacity   Nombre de hachages en attente au plus ({@code app.security.hashing.queue-capacity}).
+     */
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   @Value("${app.security.hashing.threads:0}") int threads,
+                                   @Value("${app.security.hashing.queue-capacity:256}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hache un mot de passe sur l'exécuteur.
+     *
+     * @param rawPassword Le mot de passe en clair.
+     * @return Le mot de passe encodé, ou un échec {@link RejectedExecutionException} si la file est pleine.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> List.of(encode0(rawPassword))).thenApply(hashes -> hashes.get(0));
+    }
+
+    /**
+     * Hache des mots de passe sur l'exécuteur. La liste est découpée en autant de tranches que de
+     * threads : un lot, quelle que soit sa taille, n'occupe que ce nombre de places dans la file.
+     *
+     * @param rawPasswords Les mots de passe en clair.
+     * @return Les mots de passe encodés, dans l'ordre.
+     */
+    public CompletableFuture<List<String>> encodeAllAsync(List<? extends CharSequence> rawPasswords) {
+        if (rawPasswords.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        int slices = Math.min(executor.getMaximumPoolSize(), rawPasswords.size());
+        int sliceSize = (rawPasswords.size() + slices - 1) / slices;
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < rawPasswords.size(); from += sliceSize) {
+            List<? extends CharSequence> slice = rawPasswords.subList(from, Math.min(from + sliceSize, rawPasswords.size()));
+            futures.add(submit(() -> {
+                List<String> hashes = new ArrayList<>(slice.size());
+                slice.forEach(rawPassword -> hashes.add(encode0(rawPassword)));
+                return hashes;
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            List<String> hashes = new ArrayList<>(rawPasswords.size());
+            futures.forEach(future -> hashes.addAll(future.join()));
+            return hashes;
+        });
+    }
+
+    /**
+     * Hache un mot de passe sur l'exécuteur et attend le résultat.
+     *
+     * @param rawPassword Le mot de passe en clair.
+     * @return Le mot de passe encodé.
+     * @throws RejectedExecutionException si la file est pleine.
+     */
+    public String encode(CharSequence rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    /**
+     * Hache des mots de passe sur l'exécuteur et attend le résultat.
+     *
+     * @param rawPasswords Les mots de passe en clair.
+     * @return Les mots de passe encodés, dans l'ordre.
+     * @throws RejectedExecutionException si la file est pleine.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        return await(encodeAllAsync(rawPasswords));
+    }
+
+    /**
+     * État de l'exécuteur.
+     *
+     * @return Les threads, la file et les compteurs depuis le démarrage.
+     */
+    public Statistics statistics() {
+        long count = hashed.sum();
+        return new Statistics(executor.getMaximumPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                queueCapacity, count, rejected.sum(), count == 0 ? 0 : hashNanos.sum() / count / 1_000_000.0);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private String encode0(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String hash = passwordEncoder.encode(rawPassword);
+        hashNanos.add(System.nanoTime() - start);
+        hashed.increment();
+        return hash;
+    }
+
+    private CompletableFuture<List<String>> submit(Supplier<List<String>> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Hachage refusé : {} hachages déjà en attente", executor.getQueue().size());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * État de l'exécuteur de hachage.
+     *
+     * @param threads       Nombre de threads.
+     * @param active        Threads en train de hacher.
+     * @param queued        Tâches en attente.
+     * @param queueCapacity Tâches en attente au plus.
+     * @param hashed        Mots de passe hachés.
+     * @param rejected      Tâches refusées, file pleine.
+     * @param meanHashMs    Durée moyenne d'un hachage, en millisecondes.
+     */
+    public record Statistics(int threads, int active, int queued, int queueCapacity, long hashed, long rejected,
+                             double meanHashMs) {
+    }
+}
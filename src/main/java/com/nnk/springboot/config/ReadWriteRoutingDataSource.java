@@ -0,0 +1,158 @@
+package com.nnk.springboot.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Source de données qui route les transactions en lecture seule vers un réplica.
+ * <p>
+ * Les transactions {@code @Transactional(readOnly = true)} utilisent le réplica ; toutes les autres
+ * connexions (écritures, accès hors transaction, migrations) utilisent la base primaire. Le choix est
+ * fait à l'obtention de la connexion : la source doit donc être enveloppée dans un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, pour que la connexion
+ * physique ne soit demandée qu'à la première requête, une fois la transaction et son indicateur de
+ * lecture seule en place.
+ * <p>
+ * Lecture de ses propres écritures : après la validation d'une transaction en écriture, les lectures
+ * de l'utilisateur authentifié restent sur la base primaire pendant {@code stickiness}, le temps que
+ * le réplica rattrape son retard.
+ * <p>
+ * Une transaction servie par le réplica peut lire des données en retard sur la base primaire :
+ * {@link #isReplicaRead()} permet aux caches partagés de ne pas les conserver.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Cible d'une connexion.
+     */
+    public enum Route { PRIMARY, REPLICA }
+
+    /** Au-delà de ce nombre d'utilisateurs suivis, les fenêtres expirées sont purgées. */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    /** Ressource liée à la transaction courante lorsqu'elle lit sur le réplica. */
+    private static final Object REPLICA_READ = new Object();
+
+    private final long stickinessMillis;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Constructeur.
+     *
+     * @param primary    La base primaire (écritures).
+     * @param replica    Le réplica (transactions en lecture seule).
+     * @param stickiness Durée pendant laquelle un utilisateur qui vient d'écrire lit sur la base primaire.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration stickiness) {
+        this(primary, replica, stickiness, System::currentTimeMillis);
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration stickiness, LongSupplier clock) {
+        this.stickinessMillis = stickiness.toMillis();
+        this.clock = clock;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = currentRoute();
+        if (route == Route.REPLICA) {
+            markReplicaRead();
+        }
+        return route;
+    }
+
+    /**
+     * Indique si la transaction courante lit sur le réplica. Les données lues peuvent être en retard sur
+     * la base primaire et ne doivent pas être conservées dans un cache partagé.
+     *
+     * @return {@code true} si la connexion de la transaction courante a été obtenue sur le réplica.
+     */
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    /**
+     * Détermine la cible de la connexion demandée par le thread courant.
+     *
+     * @return {@link Route#REPLICA} pour une transaction en lecture seule d'un utilisateur sans
+     * écriture récente, {@link Route#PRIMARY} sinon.
+     */
+    public Route currentRoute() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(user);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+        return user != null && isSticky(user) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    /**
+     * Enregistre une écriture de l'utilisateur : ses lectures restent sur la base primaire pendant la
+     * fenêtre de lecture de ses propres écritures.
+     *
+     * @param user Le nom de l'utilisateur.
+     */
+    void recordWrite(String user) {
+        long now = clock.getAsLong();
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickinessMillis);
+        }
+        lastWrites.put(user, now);
+    }
+
+    private static void markReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_READ)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+    }
+
+    private boolean isSticky(String user) {
+        Long writtenAt = lastWrites.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (clock.getAsLong() - writtenAt < stickinessMillis) {
+            return true;
+        }
+        lastWrites.remove(user, writtenAt);
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
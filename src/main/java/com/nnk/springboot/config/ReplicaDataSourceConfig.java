@@ -0,0 +1,88 @@
+package com.nnk.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration des sources de données lorsqu'un réplica en lecture est déclaré
+ * ({@code app.datasource.replica.enabled=true}).
+ * <p>
+ * La base primaire reprend les propriétés {@code spring.datasource.*} ; le réplica utilise
+ * {@code app.datasource.replica.url}, {@code username} et {@code password}, et partage les réglages
+ * de pool {@code spring.datasource.hikari.*}. La source exposée à JPA et Flyway est un
+ * {@link ReadWriteRoutingDataSource} enveloppé dans un {@link LazyConnectionDataSourceProxy}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    /**
+     * Pool de connexions de la base primaire.
+     *
+     * @param properties Les propriétés {@code spring.datasource.*}.
+     * @return Le pool de la base primaire.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Pool de connexions du réplica.
+     *
+     * @param properties Les propriétés {@code spring.datasource.*} (pilote par défaut).
+     * @param url        L'URL JDBC du réplica.
+     * @param username   L'utilisateur du réplica.
+     * @param password   Le mot de passe du réplica.
+     * @return Le pool du réplica.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * Source de données principale de l'application, routée entre base primaire et réplica.
+     *
+     * @param primary    Le pool de la base primaire.
+     * @param replica    Le pool du réplica.
+     * @param stickiness Fenêtre de lecture de ses propres écritures ({@code app.datasource.replica.stickiness}).
+     * @return La source de données routée.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Value("${app.datasource.replica.stickiness:5s}") Duration stickiness) {
+        logger.info("Routage des transactions en lecture seule vers le réplica (lecture de ses écritures : {})", stickiness);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, stickiness));
+    }
+}
@@ -1,7 +1,10 @@
 package com.nnk.springboot.config;
 
+import com.nnk.springboot.web.LoginThrottleFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -10,6 +13,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 /**
  * Classe de configuration de la sécurité Spring Security.
@@ -33,15 +39,23 @@ public class SecurityConfig {
 
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * Limitation des tentatives de connexion, appliquée avant l'authentification.
+     */
+    private final LoginThrottleFilter loginThrottleFilter;
+
     /**
      * Constructeur pour injecter les dépendances nécessaires.
      *
      * @param customUserDetailsService Service utilisateur personnalisé.
      * @param passwordEncoder
+     * @param loginThrottleFilter      Limitation des tentatives de connexion.
      */
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(CustomUserDetailsService customUserDetailsService, PasswordEncoder passwordEncoder,
+                          LoginThrottleFilter loginThrottleFilter) {
         this.customUserDetailsService = customUserDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.loginThrottleFilter = loginThrottleFilter;
     }
 
     /**
@@ -56,7 +70,8 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
                         .requestMatchers("/login", "/css/**", "/js/**", "/error").permitAll() // Autoriser l'accès public à ces routes
-                        .requestMatchers("/user/**", "/home", "/").hasAuthority("ROLE_ADMIN") // Pages accessibles uniquement aux administrateurs
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/user/**", "/api/v1/users/**", "/admin/**", "/actuator/**", "/home", "/").hasAuthority("ROLE_ADMIN") // Pages accessibles uniquement aux administrateurs
                         .anyRequest().authenticated() // Toutes les autres pages nécessitent une authentification
                 )
                 .formLogin(formLogin -> formLogin
@@ -75,14 +90,33 @@ public class SecurityConfig {
                             .deleteCookies("JSESSIONID") // Supprimer les cookies de session
                             .permitAll();
                 })
-                .exceptionHandling(exceptionHandling ->
-                       exceptionHandling.accessDeniedPage("/error/403")
+                .exceptionHandling(exceptionHandling -> exceptionHandling
+                        .accessDeniedPage("/error/403")
+                        // API : 401 au lieu de la redirection vers la page de connexion
+                        .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                                new AntPathRequestMatcher("/api/**"))
                )
+                // Tentatives de connexion limitées avant tout chargement d'utilisateur ou calcul BCrypt
+                .addFilterBefore(loginThrottleFilter, UsernamePasswordAuthenticationFilter.class)
                 .userDetailsService(customUserDetailsService); // Utiliser le service utilisateur personnalisé
         logger.info("Configuration de la chaîne de filtres de sécurité terminée.");
         return http.build();
     }
 
+    /**
+     * Empêche l'enregistrement du filtre de limitation des connexions dans la chaîne de filtres du
+     * conteneur : il n'est appliqué que dans la chaîne de sécurité.
+     *
+     * @param filter Le filtre de limitation des connexions.
+     * @return L'enregistrement désactivé.
+     */
+    @Bean
+    public FilterRegistrationBean<LoginThrottleFilter> loginThrottleFilterRegistration(LoginThrottleFilter filter) {
+        FilterRegistrationBean<LoginThrottleFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * Configure le fournisseur d'authentification avec le service utilisateur et un encodeur de mots de passe.
      *
@@ -94,6 +128,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
 
 
 
@@ -0,0 +1,212 @@
+package com.nnk.springboot.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache des {@link UserDetails} chargés par {@link CustomUserDetailsService}, pour que les connexions et
+ * réauthentifications n'interrogent pas la base à chaque fois.
+ * <p>
+ * Le cache est borné en nombre d'entrées (éviction LRU) et chaque entrée expire après
+ * {@code app.security.user-cache.ttl}. Une copie est renvoyée à chaque lecture : l'effacement des
+ * identifiants après authentification ({@code eraseCredentials}) ne touche pas l'entrée en cache.
+ * <p>
+ * Toute écriture sur les utilisateurs vide le cache ({@link #invalidateAll()}) : une mise à jour peut
+ * changer le nom d'utilisateur, une suppression par identifiant ne le connaît pas, et un utilisateur lu
+ * dans une transaction annulée ne doit pas survivre à celle-ci. Un utilisateur lu sur le réplica
+ * ({@link ReadWriteRoutingDataSource#isReplicaRead()}), potentiellement en retard, n'est pas mis en cache.
+ * <p>
+ * Chaque vidage incrémente une époque. Un chargement relève l'époque ({@link #epoch()}) avant de lire la
+ * base, et l'utilisateur n'est mis en cache ({@link #putUserInCache(UserDetails, long)}) que si aucun
+ * vidage n'est survenu entre-temps : une lecture commencée avant une écriture ne remet pas l'ancienne
+ * ligne en cache.
+ */
+@Component
+public class UserDetailsCache implements UserCache {
+
+    private final boolean enabled;
+
+    private final long ttlNanos;
+
+    private final int maxEntries;
+
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructeur.
+     *
+     * @param enabled    Active le cache ({@code app.security.user-cache.enabled}).
+     * @param ttl        Durée de vie d'une entrée ({@code app.security.user-cache.ttl}).
+     * @param maxEntries Nombre maximal d'utilisateurs en cache ({@code app.security.user-cache.max-entries}).
+     */
+    @Autowired
+    public UserDetailsCache(@Value("${app.security.user-cache.enabled:true}") boolean enabled,
+                            @Value("${app.security.user-cache.ttl:5m}") Duration ttl,
+                            @Value("${app.security.user-cache.max-entries:10000}") int maxEntries) {
+        this(enabled, ttl, maxEntries, System::nanoTime);
+    }
+
+    UserDetailsCache(boolean enabled, Duration ttl, int maxEntries, LongSupplier clock) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserDetailsCache.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (!enabled || username == null) {
+            return null;
+        }
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(username);
+            if (entry != null && clock.getAsLong() - entry.cachedAt >= ttlNanos) {
+                entries.remove(username);
+                entry = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return User.withUserDetails(entry.user).build();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        putUserInCache(user, epoch.get());
+    }
+
+    /**
+     * Met en cache un utilisateur chargé depuis la base, sauf si le cache a été vidé depuis le début du
+     * chargement.
+     *
+     * @param user      L'utilisateur chargé.
+     * @param loadEpoch L'époque relevée par {@link #epoch()} avant la lecture en base.
+     */
+    public void putUserInCache(UserDetails user, long loadEpoch) {
+        if (!enabled || ReadWriteRoutingDataSource.isReplicaRead()) {
+            return;
+        }
+        Entry entry = new Entry(User.withUserDetails(user).build(), clock.getAsLong());
+        lock.lock();
+        try {
+            if (epoch.get() == loadEpoch) {
+                entries.put(user.getUsername(), entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Époque courante du cache, à relever avant de lire un utilisateur en base.
+     *
+     * @return Le nombre de vidages depuis le démarrage.
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        lock.lock();
+        try {
+            entries.remove(username);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Vide le cache, à appeler après chaque écriture sur les utilisateurs.
+     * <p>
+     * Dans une transaction, le cache est vidé une seconde fois à la fin de celle-ci : un utilisateur
+     * rechargé entre l'écriture et sa validation (donc sans la modification) n'est pas servi ensuite.
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * Statistiques du cache.
+     *
+     * @return Les succès, échecs et le nombre d'entrées.
+     */
+    public Statistics statistics() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new Statistics(hits.sum(), misses.sum(), size);
+    }
+
+    private void clear() {
+        lock.lock();
+        try {
+            epoch.incrementAndGet();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(UserDetails user, long cachedAt) {
+    }
+
+    /**
+     * Statistiques du cache.
+     *
+     * @param hits    Nombre de chargements servis par le cache.
+     * @param misses  Nombre de chargements depuis la base.
+     * @param entries Nombre d'utilisateurs en cache (entrées expirées comprises).
+     */
+    public record Statistics(long hits, long misses, int entries) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.nnk.springboot.config;
+
+import com.nnk.springboot.metrics.HandlerMetricsInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration Spring MVC : enregistrement de la mesure de latence des handlers.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final HandlerMetricsInterceptor handlerMetricsInterceptor;
+
+    public WebMvcConfig(HandlerMetricsInterceptor handlerMetricsInterceptor) {
+        this.handlerMetricsInterceptor = handlerMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerMetricsInterceptor);
+    }
+}
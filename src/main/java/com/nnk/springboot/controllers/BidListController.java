@@ -1,13 +1,13 @@
 package com.nnk.springboot.controllers;
 
 import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.pagination.KeysetPage;
+import com.nnk.springboot.repositories.projections.BidListSummary;
 import com.nnk.springboot.services.BidListService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -42,13 +42,13 @@ public class BidListController {
     /**
      * Affiche la liste des BidLists avec prise en charge de la pagination.
      *
-     * @param page  Numéro de la page à afficher (par défaut 0).
+     * @param cursor Curseur opaque de la page à afficher (absent pour la première page).
      * @param size  Taille de la page (par défaut configurée dans les propriétés de l'application).
      * @param model Modèle pour transmettre les données à la vue.
      * @return Le nom de la vue pour afficher la liste des BidLists.
      */
     @RequestMapping("/bidList/list")
-    public String home(@RequestParam(defaultValue = "0") int page,
+    public String home(@RequestParam(required = false) String cursor,
                        @RequestParam(defaultValue = "#{@environment.getProperty('spring.data.web.pageable.default-page-size')}") int size,
                        Model model) {
 
@@ -67,11 +67,11 @@ public class BidListController {
         }
 
 
-        Page<BidList> bidListPage = bidListService.findPaginated(PageRequest.of(page, size));
+        KeysetPage<BidListSummary> bidListPage = bidListService.findByCursor(cursor, size);
 
         model.addAttribute("bidLists", bidListPage.getContent()); // Contenu de la page
-        model.addAttribute("currentPage", page); // Page actuelle
-        model.addAttribute("totalPages", bidListPage.getTotalPages()); // Nombre total de pages
+        model.addAttribute("nextCursor", bidListPage.getNextCursor()); // Curseur de la page suivante
+        model.addAttribute("previousCursor", bidListPage.getPreviousCursor()); // Curseur de la page précédente
 
 
         return "bidList/list";
@@ -140,9 +140,9 @@ public class BidListController {
             return "bidList/update";
         }
         logger.info("Mise à jour de la BidList avec l'ID : {}", id);
-        // Assurez que l'ID est défini sur l'objet bidList
-        bidList.setBidListId(id);
-        bidListService.insert(bidList);
+        if (bidListService.update(id, bidList) == null) {
+            logger.warn("Mise à jour impossible : la BidList {} n'existe pas.", id);
+        }
         return "redirect:/bidList/list";
     }
 
@@ -156,10 +156,22 @@ public class BidListController {
     @GetMapping("/bidList/delete/{id}")
     public String deleteBid(@PathVariable("id") Integer id, Model model) {
         logger.info("Suppression de la BidList avec l'ID : {}", id);
-        BidList bidList = bidListService.findBidList(id);
-        if (bidList != null) {
-            bidListService.delete(bidList);
+        if (!bidListService.deleteById(id)) {
+            logger.warn("Aucun élément supprimé : BidList {} introuvable.", id);
         }
         return "redirect:/bidList/list";
     }
+
+    /**
+     * Supprime en une seule requête les BidLists sélectionnés dans la liste.
+     *
+     * @param ids Identifiants des BidLists à supprimer (aucun si rien n'est sélectionné).
+     * @return Redirection vers la liste après suppression.
+     */
+    @PostMapping("/bidList/delete")
+    public String deleteBids(@RequestParam(name = "ids", required = false) List<Integer> ids) {
+        int deleted = bidListService.deleteByIds(ids == null ? List.of() : ids);
+        logger.info("{} BidLists supprimés sur {} sélectionnés.", deleted, ids == null ? 0 : ids.size());
+        return "redirect:/bidList/list";
+    }
 }
@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -65,11 +66,13 @@ public class CurveController {
             size = maxPageSize;
         }
 
-        Page<CurvePoint>curvePointPage = curvePointService.findPaginated(PageRequest.of(page, size));
+        Slice<CurvePoint> curvePointPage = curvePointService.findPaginated(PageRequest.of(page, size));
 
         model.addAttribute("curvePoints", curvePointPage.getContent()); // Contenu de la page
         model.addAttribute("currentPage", page); // Page actuelle
-        model.addAttribute("totalPages", curvePointPage.getTotalPages()); // Nombre total de pages
+        model.addAttribute("hasNext", curvePointPage.hasNext()); // Existence d'une page suivante
+        // Le nombre total de pages n'est connu que si le mode de pagination fournit un total
+        model.addAttribute("totalPages", curvePointPage instanceof Page<?> fullPage ? fullPage.getTotalPages() : null);
 
         return "curvePoint/list";
     }
@@ -137,7 +140,9 @@ public class CurveController {
             return "curvePoint/update";
         }
         logger.info("Mise à jour du CurvePoint avec l'ID : {}", id);
-        curvePointService.insert(curvePoint);
+        if (curvePointService.update(id, curvePoint) == null) {
+            logger.warn("Mise à jour impossible : le CurvePoint {} n'existe pas.", id);
+        }
         return "redirect:/curvePoint/list";
     }
 
@@ -151,10 +156,22 @@ public class CurveController {
     @GetMapping("/curvePoint/delete/{id}")
     public String deleteCurve(@PathVariable("id") Integer id, Model model) {
         logger.info("Suppression du CurvePoint avec l'ID : {}", id);
-        CurvePoint curvePoint = curvePointService.findCurvePoint(id);
-        if (curvePoint != null) {
-            curvePointService.delete(curvePoint);
+        if (!curvePointService.deleteById(id)) {
+            logger.warn("Aucun élément supprimé : CurvePoint {} introuvable.", id);
         }
         return "redirect:/curvePoint/list";
     }
+
+    /**
+     * Supprime en une seule requête les CurvePoints sélectionnés dans la liste.
+     *
+     * @param ids Identifiants des CurvePoints à supprimer (aucun si rien n'est sélectionné).
+     * @return Redirection vers la liste après suppression.
+     */
+    @PostMapping("/curvePoint/delete")
+    public String deleteCurves(@RequestParam(name = "ids", required = false) List<Integer> ids) {
+        int deleted = curvePointService.deleteByIds(ids == null ? List.of() : ids);
+        logger.info("{} CurvePoints supprimés sur {} sélectionnés.", deleted, ids == null ? 0 : ids.size());
+        return "redirect:/curvePoint/list";
+    }
 }
@@ -0,0 +1,54 @@
+package com.nnk.springboot.controllers;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Réponse aux demandes refusées par un exécuteur saturé, comme la file de hachage des mots de passe.
+ * <p>
+ * Le refus est une protection contre la surcharge, pas une panne : la requête reçoit un {@code 503}
+ * avec {@code Retry-After} ({@code app.overload.retry-after}) au lieu d'une page d'erreur {@code 500}.
+ */
+@ControllerAdvice
+public class OverloadExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverloadExceptionHandler.class);
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructeur.
+     *
+     * @param retryAfter Délai conseillé avant une nouvelle tentative ({@code app.overload.retry-after}).
+     */
+    public OverloadExceptionHandler(@Value("${app.overload.retry-after:5s}") Duration retryAfter) {
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+
+    /**
+     * Répond {@code 503} à une demande refusée par un exécuteur dont la file est pleine.
+     *
+     * @param e        Le refus.
+     * @param response La réponse.
+     * @return La page d'indisponibilité temporaire.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ModelAndView handleRejected(RejectedExecutionException e, HttpServletResponse response) {
+        logger.warn("Requête refusée, service surchargé : {}", e.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        ModelAndView mav = new ModelAndView("error/503");
+        mav.setStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        mav.addObject("retryAfter", retryAfterSeconds);
+        return mav;
+    }
+}
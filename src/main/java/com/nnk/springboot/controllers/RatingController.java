@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -67,11 +68,13 @@ public class RatingController {
         }
 
 
-        Page<Rating> ratingPage = ratingService.findPaginated(PageRequest.of(page, size));
+        Slice<Rating> ratingPage = ratingService.findPaginated(PageRequest.of(page, size));
 
         model.addAttribute("ratings", ratingPage.getContent()); // Contenu de la page
         model.addAttribute("currentPage", page); // Page actuelle
-        model.addAttribute("totalPages", ratingPage.getTotalPages()); // Nombre total de pages
+        model.addAttribute("hasNext", ratingPage.hasNext()); // Existence d'une page suivante
+        // Le nombre total de pages n'est connu que si le mode de pagination fournit un total
+        model.addAttribute("totalPages", ratingPage instanceof Page<?> fullPage ? fullPage.getTotalPages() : null);
 
         return "rating/list";
     }
@@ -153,10 +156,22 @@ public class RatingController {
     @GetMapping("/rating/delete/{id}")
     public String deleteRating(@PathVariable("id") Integer id, Model model) {
         logger.info("Suppression du Rating avec l'ID : {}", id);
-        Rating rating = ratingService.findRating(id);
-        if (rating != null) {
-            ratingService.delete(rating);
+        if (!ratingService.deleteById(id)) {
+            logger.warn("Aucun élément supprimé : Rating {} introuvable.", id);
         }
         return "redirect:/rating/list";
     }
+
+    /**
+     * Supprime en une seule requête les Ratings sélectionnés dans la liste.
+     *
+     * @param ids Identifiants des Ratings à supprimer (aucun si rien n'est sélectionné).
+     * @return Redirection vers la liste après suppression.
+     */
+    @PostMapping("/rating/delete")
+    public String deleteRatings(@RequestParam(name = "ids", required = false) List<Integer> ids) {
+        int deleted = ratingService.deleteByIds(ids == null ? List.of() : ids);
+        logger.info("{} Ratings supprimés sur {} sélectionnés.", deleted, ids == null ? 0 : ids.size());
+        return "redirect:/rating/list";
+    }
 }
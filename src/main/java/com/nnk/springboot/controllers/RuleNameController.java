@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -65,11 +66,13 @@ public class RuleNameController {
             size = maxPageSize;
         }
 
-        Page<RuleName> ruleNamePage = ruleNameService.findPaginated(PageRequest.of(page, size));
+        Slice<RuleName> ruleNamePage = ruleNameService.findPaginated(PageRequest.of(page, size));
 
         model.addAttribute("ruleNames", ruleNamePage.getContent()); // Contenu de la page
         model.addAttribute("currentPage", page); // Page actuelle
-        model.addAttribute("totalPages", ruleNamePage.getTotalPages()); // Nombre total de pages
+        model.addAttribute("hasNext", ruleNamePage.hasNext()); // Existence d'une page suivante
+        // Le nombre total de pages n'est connu que si le mode de pagination fournit un total
+        model.addAttribute("totalPages", ruleNamePage instanceof Page<?> fullPage ? fullPage.getTotalPages() : null);
 
         return "ruleName/list";
     }
@@ -151,10 +154,22 @@ public class RuleNameController {
     @GetMapping("/ruleName/delete/{id}")
     public String deleteRuleName(@PathVariable("id") Integer id, Model model) {
         logger.info("Suppression de la règle de nom avec l'ID : {}", id);
-        RuleName ruleName = ruleNameService.findRuleName(id);
-        if (ruleName != null) {
-            ruleNameService.delete(ruleName);
+        if (!ruleNameService.deleteById(id)) {
+            logger.warn("Aucun élément supprimé : RuleName {} introuvable.", id);
         }
         return "redirect:/ruleName/list";
     }
+
+    /**
+     * Supprime en une seule requête les RuleNames sélectionnés dans la liste.
+     *
+     * @param ids Identifiants des RuleNames à supprimer (aucun si rien n'est sélectionné).
+     * @return Redirection vers la liste après suppression.
+     */
+    @PostMapping("/ruleName/delete")
+    public String deleteRuleNames(@RequestParam(name = "ids", required = false) List<Integer> ids) {
+        int deleted = ruleNameService.deleteByIds(ids == null ? List.of() : ids);
+        logger.info("{} RuleNames supprimés sur {} sélectionnés.", deleted, ids == null ? 0 : ids.size());
+        return "redirect:/ruleName/list";
+    }
 }
@@ -0,0 +1,64 @@
+package com.nnk.springboot.controllers;
+
+import com.nnk.springboot.metrics.SqlMonitor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Contrôleur de la page d'administration des requêtes SQL les plus coûteuses.
+ */
+@Controller
+public class SqlMonitorController {
+
+    private static final Logger logger = LogManager.getLogger(SqlMonitorController.class);
+
+    /** Nombre maximal de requêtes affichées. */
+    private static final int MAX_LIMIT = 200;
+
+    private final SqlMonitor sqlMonitor;
+
+    public SqlMonitorController(SqlMonitor sqlMonitor) {
+        this.sqlMonitor = sqlMonitor;
+    }
+
+    /**
+     * Affiche les requêtes SQL normalisées classées par temps cumulé.
+     *
+     * @param limit Nombre de requêtes à afficher (par défaut 20).
+     * @param model Modèle pour transmettre les données à la vue.
+     * @return Nom de la vue listant les requêtes.
+     */
+    @GetMapping("/admin/sql")
+    public String statements(@RequestParam(defaultValue = "20") int limit, Model model) {
+        logger.info("Affichage des {} requêtes SQL les plus coûteuses.", limit);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            model.addAttribute("loggedInUser", authentication.getName());
+        }
+
+        model.addAttribute("statements", sqlMonitor.topStatements(Math.max(1, Math.min(limit, MAX_LIMIT))));
+        model.addAttribute("slowThresholdMillis", sqlMonitor.getSlowThresholdMillis());
+        model.addAttribute("sampleRate", sqlMonitor.getSampleRate());
+        return "admin/sql";
+    }
+
+    /**
+     * Efface les mesures accumulées.
+     *
+     * @return Redirection vers la liste des requêtes.
+     */
+    @PostMapping("/admin/sql/reset")
+    public String reset() {
+        logger.info("Réinitialisation des mesures des requêtes SQL.");
+        sqlMonitor.reset();
+        return "redirect:/admin/sql";
+    }
+}
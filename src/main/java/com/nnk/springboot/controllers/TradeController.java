@@ -2,20 +2,34 @@ package com.nnk.springboot.controllers;
 
 import com.nnk.springboot.domain.RuleName;
 import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.dto.ExportFormat;
+import com.nnk.springboot.dto.ImportReport;
+import com.nnk.springboot.pagination.KeysetPage;
+import com.nnk.springboot.repositories.projections.TradeSummary;
 import com.nnk.springboot.services.TradeService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -25,6 +39,10 @@ import java.util.List;
 public class TradeController {
 
     private static final Logger logger = LogManager.getLogger(TradeController.class);
+
+    /** Délai de l'export en flux : aucun, la durée dépend du volume de la table. */
+    private static final long EXPORT_TIMEOUT = -1;
+
     private final TradeService tradeService;
 
     @Value("${spring.data.web.pageable.default-page-size}")
@@ -41,13 +59,13 @@ public class TradeController {
     /**
      * Affiche la liste des Trades.
      *
-     * @param page  Numéro de la page à afficher (par défaut 0).
+     * @param cursor Curseur opaque de la page à afficher (absent pour la première page).
      * @param size  Taille de la page (par défaut configurée dans les propriétés de l'application).
      * @param model Modèle pour transmettre les données à la vue.
      * @return Nom de la vue pour afficher les Trades.
      */
     @RequestMapping("/trade/list")
-    public String home(@RequestParam(defaultValue = "0") int page,
+    public String home(@RequestParam(required = false) String cursor,
                        @RequestParam(defaultValue = "#{@environment.getProperty('spring.data.web.pageable.default-page-size')}") int size,
                        Model model) {
 
@@ -65,11 +83,11 @@ public class TradeController {
             size = maxPageSize;
         }
 
-        Page<Trade> tradePage = tradeService.findPaginated(PageRequest.of(page, size));
+        KeysetPage<TradeSummary> tradePage = tradeService.findByCursor(cursor, size);
 
         model.addAttribute("trades", tradePage.getContent()); // Contenu de la page
-        model.addAttribute("currentPage", page); // Page actuelle
-        model.addAttribute("totalPages", tradePage.getTotalPages()); // Nombre total de pages
+        model.addAttribute("nextCursor", tradePage.getNextCursor()); // Curseur de la page suivante
+        model.addAttribute("previousCursor", tradePage.getPreviousCursor()); // Curseur de la page précédente
 
         return "trade/list";
     }
@@ -137,7 +155,9 @@ public class TradeController {
             return "trade/update";
         }
         logger.info("Mise à jour du Trade avec l'ID : {}", id);
-        tradeService.insert(trade);
+        if (tradeService.update(id, trade) == null) {
+            logger.warn("Mise à jour impossible : le Trade {} n'existe pas.", id);
+        }
         return "redirect:/trade/list";
     }
 
@@ -151,10 +171,106 @@ public class TradeController {
     @GetMapping("/trade/delete/{id}")
     public String deleteTrade(@PathVariable("id") Integer id, Model model) {
         logger.info("Suppression du Trade avec l'ID : {}", id);
-        Trade trade = tradeService.findTrade(id);
-        if (trade != null) {
-            tradeService.delete(trade);
+        if (!tradeService.deleteById(id)) {
+            logger.warn("Aucun élément supprimé : Trade {} introuvable.", id);
         }
         return "redirect:/trade/list";
     }
+
+    /**
+     * Supprime en une seule requête les Trades sélectionnés dans la liste.
+     *
+     * @param ids Identifiants des Trades à supprimer (aucun si rien n'est sélectionné).
+     * @return Redirection vers la liste après suppression.
+     */
+    @PostMapping("/trade/delete")
+    public String deleteTrades(@RequestParam(name = "ids", required = false) List<Integer> ids) {
+        int deleted = tradeService.deleteByIds(ids == null ? List.of() : ids);
+        logger.info("{} Trades supprimés sur {} sélectionnés.", deleted, ids == null ? 0 : ids.size());
+        return "redirect:/trade/list";
+    }
+
+    /**
+     * Affiche le formulaire d'import CSV des Trades.
+     *
+     * @return Nom de la vue d'import.
+     */
+    @GetMapping("/trade/import")
+    public String importForm() {
+        logger.info("Affichage du formulaire d'import CSV des Trades.");
+        return "trade/import";
+    }
+
+    /**
+     * Importe les Trades d'un fichier CSV envoyé par le formulaire (multipart).
+     * Le fichier est lu en flux : il n'est jamais chargé entièrement en mémoire.
+     *
+     * @param file  Fichier CSV encodé en UTF-8, en-tête en première ligne.
+     * @param model Modèle pour transmettre le compte rendu à la vue.
+     * @return Nom de la vue d'import, avec le compte rendu.
+     */
+    @PostMapping(value = "/trade/import", consumes = "multipart/form-data")
+    public String importTrades(@RequestParam("file") MultipartFile file, Model model) {
+        if (file.isEmpty()) {
+            logger.error("Import CSV des Trades : aucun fichier reçu.");
+            model.addAttribute("errorMessage", "Please select a non-empty CSV file.");
+            return "trade/import";
+        }
+        logger.info("Import CSV des Trades depuis le fichier : {}", file.getOriginalFilename());
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            model.addAttribute("report", tradeService.importCsv(reader));
+        } catch (IOException e) {
+            logger.error("Lecture du fichier importé impossible : {}", e.getMessage());
+            model.addAttribute("errorMessage", "The uploaded file could not be read.");
+        }
+        return "trade/import";
+    }
+
+    /**
+     * Importe les Trades d'un corps de requête CSV brut ({@code text/csv}), lu en flux au fil de
+     * la réception, sans fichier temporaire.
+     *
+     * @param body Corps de la requête, encodé en UTF-8.
+     * @return Le compte rendu de l'import au format JSON.
+     * @throws IOException Si le corps de la requête ne peut pas être lu.
+     */
+    @PostMapping(value = "/trade/import", consumes = "text/csv")
+    @ResponseBody
+    public ImportReport importTradesStream(InputStream body) throws IOException {
+        logger.info("Import CSV des Trades depuis le corps de la requête.");
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return tradeService.importCsv(reader);
+        }
+    }
+
+    /**
+     * Exporte tous les Trades en flux : la réponse est écrite au fil de la lecture en base,
+     * sans charger la liste complète en mémoire.
+     * <p>
+     * L'écriture se fait hors du thread de requête, sans limite de durée pour ce seul endpoint ; les autres
+     * traitements asynchrones gardent le délai par défaut ({@code spring.mvc.async.request-timeout}).
+     *
+     * @param format  Format d'export, {@code csv} (par défaut) ou {@code json}.
+     * @param request La requête, dont le traitement asynchrone reçoit le délai de l'export.
+     * @return La réponse dont le corps est produit en flux.
+     */
+    @GetMapping("/trade/export")
+    public ResponseEntity<StreamingResponseBody> exportTrades(@RequestParam(defaultValue = "csv") String format,
+                                                              NativeWebRequest request) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            logger.error("Format d'export inconnu : {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("Export des Trades au format {}", exportFormat);
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(EXPORT_TIMEOUT);
+        StreamingResponseBody body = out -> tradeService.exportTrades(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"trades." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
 }
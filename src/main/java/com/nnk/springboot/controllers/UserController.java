@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -15,9 +16,14 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contrôleur pour la gestion des opérations sur les Utilisateurs (Users).
+ * <p>
+ * La création et la mise à jour renvoient un {@link CompletableFuture} : le thread de requête est
+ * libéré pendant le hachage du mot de passe, et la réponse est produite quand l'utilisateur est
+ * enregistré. File de hachage pleine, la requête reçoit un {@code 503} ({@link OverloadExceptionHandler}).
  */
 @Controller
 public class UserController {
@@ -57,11 +63,13 @@ public class UserController {
             size = maxPageSize;
         }
 
-        Page<User> userPage = userService.findPaginated(PageRequest.of(page, size));
+        Slice<User> userPage = userService.findPaginated(PageRequest.of(page, size));
 
         model.addAttribute("users", userPage.getContent()); // Contenu de la page
         model.addAttribute("currentPage", page); // Page actuelle
-        model.addAttribute("totalPages", userPage.getTotalPages()); // Nombre total de pages
+        model.addAttribute("hasNext", userPage.hasNext()); // Existence d'une page suivante
+        // Le nombre total de pages n'est connu que si le mode de pagination fournit un total
+        model.addAttribute("totalPages", userPage instanceof Page<?> fullPage ? fullPage.getTotalPages() : null);
 
         return "user/list";
     }
@@ -85,17 +93,16 @@ public class UserController {
      * @param user   Utilisateur à valider et enregistrer.
      * @param result Résultat de la validation.
      * @param model  Modèle pour transmettre les données à la vue.
-     * @return Redirection vers la liste si réussite, sinon recharge le formulaire.
+     * @return Redirection vers la liste une fois l'Utilisateur enregistré, sinon recharge le formulaire.
      */
     @PostMapping("/user/validate")
-    public String validate(@Valid User user, BindingResult result, Model model) {
+    public CompletableFuture<String> validate(@Valid User user, BindingResult result, Model model) {
         if (result.hasErrors()) {
             logger.error("Échec de la validation pour l'Utilisateur : {}", result.getAllErrors());
-            return "user/add";
+            return CompletableFuture.completedFuture("user/add");
         }
         logger.info("Enregistrement d'un nouvel Utilisateur : {}", user);
-        userService.insert(user);
-        return "redirect:/user/list";
+        return userService.insertAsync(user).thenApply(saved -> "redirect:/user/list");
     }
 
     /**
@@ -120,17 +127,17 @@ public class UserController {
      * @param user   Données mises à jour de l'Utilisateur.
      * @param result Résultat de la validation.
      * @param model  Modèle pour transmettre les données à la vue.
-     * @return Redirection vers la liste si réussite, sinon recharge le formulaire.
+     * @return Redirection vers la liste une fois l'Utilisateur mis à jour, sinon recharge le formulaire.
      */
     @PostMapping("/user/update/{id}")
-    public String updateUser(@PathVariable("id") Integer id, @Valid User user, BindingResult result, Model model) {
+    public CompletableFuture<String> updateUser(@PathVariable("id") Integer id, @Valid User user, BindingResult result,
+                                                Model model) {
         if (result.hasErrors()) {
             logger.error("Échec de la validation pour la mise à jour de l'Utilisateur : {}", result.getAllErrors());
-            return "user/update";
+            return CompletableFuture.completedFuture("user/update");
         }
         logger.info("Mise à jour de l'Utilisateur avec l'ID : {}", id);
-        userService.update(user);
-        return "redirect:/user/list";
+        return userService.updateAsync(user).thenApply(updated -> "redirect:/user/list");
     }
 
     /**
@@ -143,10 +150,22 @@ public class UserController {
     @GetMapping("/user/delete/{id}")
     public String deleteUser(@PathVariable("id") Integer id, Model model) {
         logger.info("Suppression de l'Utilisateur avec l'ID : {}", id);
-        User user = userService.findUser(id);
-        if (user != null) {
-            userService.delete(user);
+        if (!userService.deleteById(id)) {
+            logger.warn("Aucun élément supprimé : Utilisateur {} introuvable.", id);
         }
         return "redirect:/user/list";
     }
+
+    /**
+     * Supprime en une seule requête les Utilisateurs sélectionnés dans la liste.
+     *
+     * @param ids Identifiants des Utilisateurs à supprimer (aucun si rien n'est sélectionné).
+     * @return Redirection vers la liste après suppression.
+     */
+    @PostMapping("/user/delete")
+    public String deleteUsers(@RequestParam(name = "ids", required = false) List<Integer> ids) {
+        int deleted = userService.deleteByIds(ids == null ? List.of() : ids);
+        logger.info("{} Utilisateurs supprimés sur {} sélectionnés.", deleted, ids == null ? 0 : ids.size());
+        return "redirect:/user/list";
+    }
 }
@@ -0,0 +1,248 @@
+package com.nnk.springboot.controllers.api;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.domain.CurvePoint;
+import com.nnk.springboot.domain.Rating;
+import com.nnk.springboot.domain.RuleName;
+import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.domain.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Réponses JSON de l'API REST ({@code /api/v1/...}) : pagination, sélection des champs et lecture
+ * groupée par identifiants, communes aux six entités.
+ * <p>
+ * Les entités sont écrites une à une dans le flux de la réponse par un {@link JsonGenerator} : aucun
+ * arbre JSON ni aucune chaîne de la réponse complète n'est construit en mémoire. Le paramètre
+ * {@code fields} restreint les propriétés écrites (filtre Jackson appliqué à la sérialisation) ; les
+ * propriétés masquées, comme le mot de passe des utilisateurs, ne sont jamais écrites ni sélectionnables.
+ */
+@Component
+public class ApiResponseWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiResponseWriter.class);
+
+    private static final String FIELDS_FILTER = "fields";
+
+    private static final Map<Class<?>, Set<String>> HIDDEN = Map.of(User.class, Set.of("password"));
+
+    private final ObjectMapper mapper;
+
+    private final Map<Class<?>, Set<String>> properties = new ConcurrentHashMap<>();
+
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
+    private final int maxIds;
+
+    /**
+     * Constructeur.
+     *
+     * @param objectMapper    Le mapper JSON de l'application, copié et complété du filtre de champs.
+     * @param defaultPageSize Taille de page par défaut ({@code app.api.default-page-size}).
+     * @param maxPageSize     Taille de page maximale ({@code app.api.max-page-size}).
+     * @param maxIds          Nombre maximal d'identifiants d'une lecture groupée ({@code app.api.max-ids}).
+     */
+    public ApiResponseWriter(ObjectMapper objectMapper,
+                             @Value("${app.api.default-page-size:100}") int defaultPageSize,
+                             @Value("${app.api.max-page-size:1000}") int maxPageSize,
+                             @Value("${app.api.max-ids:1000}") int maxIds) {
+        ObjectMapper copy = objectMapper.copy().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        for (Class<?> type : List.of(BidList.class, CurvePoint.class, Rating.class, RuleName.class, Trade.class, User.class)) {
+            copy.addMixIn(type, FieldsFilterMixin.class);
+        }
+        this.mapper = copy;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Réponse d'une collection : les entités demandées par {@code ids}, sinon une page.
+     *
+     * @param type      Le type d'entité.
+     * @param ids       Les identifiants demandés, ou {@code null} pour une page.
+     * @param page      Le numéro de page (à partir de 0).
+     * @param size      La taille de page, ou {@code null} pour la taille par défaut.
+     * @param fields    Les propriétés à écrire, séparées par des virgules, ou {@code null} pour toutes.
+     * @param findByIds La lecture groupée du service.
+     * @param findPage  La lecture paginée du service.
+     * @param <T>       Le type d'entité.
+     * @return La réponse en flux ; {@code 400} si un paramètre est invalide.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> collection(Class<T> type, List<Integer> ids, int page, Integer size,
+                                                                String fields,
+                                                                Function<Collection<Integer>, List<T>> findByIds,
+                                                                Function<Pageable, Slice<T>> findPage) {
+        ObjectWriter writer;
+        try {
+            writer = writer(type, fields);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requête API invalide sur {} : {}", type.getSimpleName(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (ids != null) {
+            Set<Integer> distinct = new LinkedHashSet<>(ids);
+            if (distinct.size() > maxIds) {
+                logger.warn("Lecture groupée de {} refusée : {} identifiants (maximum {})", type.getSimpleName(),
+                        distinct.size(), maxIds);
+                return ResponseEntity.badRequest().build();
+            }
+            List<T> items = findByIds.apply(distinct);
+            return ok(out -> writeArray(writer, out, items));
+        }
+        int pageSize = size == null ? defaultPageSize : size;
+        if (page < 0 || pageSize < 1 || pageSize > maxPageSize) {
+            logger.warn("Pagination invalide sur {} : page {}, taille {}", type.getSimpleName(), page, pageSize);
+            return ResponseEntity.badRequest().build();
+        }
+        Slice<T> slice = findPage.apply(PageRequest.of(page, pageSize));
+        return ok(out -> writePage(writer, out, slice));
+    }
+
+    /**
+     * Réponse d'une seule entité.
+     *
+     * @param type      Le type d'entité.
+     * @param id        L'identifiant.
+     * @param fields    Les propriétés à écrire, séparées par des virgules, ou {@code null} pour toutes.
+     * @param findByIds La lecture groupée du service.
+     * @param <T>       Le type d'entité.
+     * @return La réponse en flux ; {@code 404} si l'entité n'existe pas, {@code 400} si un champ est inconnu.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> single(Class<T> type, int id, String fields,
+                                                            Function<Collection<Integer>, List<T>> findByIds) {
+        ObjectWriter writer;
+        try {
+            writer = writer(type, fields);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requête API invalide sur {} : {}", type.getSimpleName(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        List<T> items = findByIds.apply(List.of(id));
+        if (items.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        T item = items.get(0);
+        return ok(out -> {
+            JsonGenerator generator = generator(writer, out);
+            writer.writeValue(generator, item);
+            generator.flush();
+        });
+    }
+
+    /**
+     * Propriétés sélectionnables d'un type d'entité.
+     *
+     * @param type Le type d'entité.
+     * @return Les noms des propriétés JSON, propriétés masquées exclues.
+     */
+    public Set<String> properties(Class<?> type) {
+        return properties.computeIfAbsent(type, key -> {
+            Set<String> hidden = HIDDEN.getOrDefault(key, Set.of());
+            return mapper.getSerializationConfig().introspect(mapper.constructType(key)).findProperties().stream()
+                    .filter(BeanPropertyDefinition::couldSerialize)
+                    .map(BeanPropertyDefinition::getName)
+                    .filter(name -> !hidden.contains(name))
+                    .collect(Collectors.toUnmodifiableSet());
+        });
+    }
+
+    private ObjectWriter writer(Class<?> type, String fields) {
+        SimpleBeanPropertyFilter filter;
+        if (fields == null || fields.isBlank()) {
+            filter = SimpleBeanPropertyFilter.serializeAllExcept(HIDDEN.getOrDefault(type, Set.of()));
+        } else {
+            Set<String> selected = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Set<String> known = properties(type);
+            for (String name : selected) {
+                if (!known.contains(name)) {
+                    throw new IllegalArgumentException("champ inconnu '" + name + "'");
+                }
+            }
+            filter = SimpleBeanPropertyFilter.filterOutAllExcept(selected);
+        }
+        return mapper.writer(new SimpleFilterProvider().addFilter(FIELDS_FILTER, filter));
+    }
+
+    private static <T> void writePage(ObjectWriter writer, OutputStream out, Slice<T> slice) throws IOException {
+        JsonGenerator generator = generator(writer, out);
+        generator.writeStartObject();
+        generator.writeFieldName("content");
+        writeItems(writer, generator, slice.getContent());
+        generator.writeNumberField("page", slice.getNumber());
+        generator.writeNumberField("size", slice.getSize());
+        generator.writeNumberField("numberOfElements", slice.getNumberOfElements());
+        generator.writeBooleanField("hasNext", slice.hasNext());
+        if (slice instanceof Page<T> counted) {
+            generator.writeNumberField("totalElements", counted.getTotalElements());
+        }
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private static <T> void writeArray(ObjectWriter writer, OutputStream out, List<T> items) throws IOException {
+        JsonGenerator generator = generator(writer, out);
+        writeItems(writer, generator, items);
+        generator.flush();
+    }
+
+    private static <T> void writeItems(ObjectWriter writer, JsonGenerator generator, List<T> items) throws IOException {
+        generator.writeStartArray();
+        for (T item : items) {
+            writer.writeValue(generator, item);
+        }
+        generator.writeEndArray();
+    }
+
+    private static JsonGenerator generator(ObjectWriter writer, OutputStream out) throws IOException {
+        // Le flux de la réponse est fermé par le conteneur, pas par le générateur
+        return writer.createGenerator(out, JsonEncoding.UTF8).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> ok(StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Filtre Jackson associé aux entités exposées par l'API.
+     */
+    @JsonFilter(FIELDS_FILTER)
+    private interface FieldsFilterMixin {
+    }
+}
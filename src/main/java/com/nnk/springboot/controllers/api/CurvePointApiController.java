@@ -0,0 +1,66 @@
+package com.nnk.springboot.controllers.api;
+
+import com.nnk.springboot.domain.CurvePoint;
+import com.nnk.springboot.services.CurvePointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * API REST en lecture des points de courbe ({@code /api/v1/curvepoints}), en JSON écrit en flux.
+ */
+@RestController
+@RequestMapping("/api/v1/curvepoints")
+public class CurvePointApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CurvePointApiController.class);
+
+    private final CurvePointService curvePointService;
+
+    private final ApiResponseWriter apiResponseWriter;
+
+    public CurvePointApiController(CurvePointService curvePointService, ApiResponseWriter apiResponseWriter) {
+        this.curvePointService = curvePointService;
+        this.apiResponseWriter = apiResponseWriter;
+    }
+
+    /**
+     * Liste paginée des points de courbe, ou lecture groupée par identifiants.
+     *
+     * @param ids    Identifiants demandés ({@code ids=1,2,3}) ; la pagination est alors ignorée.
+     * @param page   Numéro de page, à partir de 0.
+     * @param size   Taille de page.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return Les points de courbe en JSON.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@RequestParam(required = false) List<Integer> ids,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String fields) {
+        logger.info("API : lecture des points de courbe (ids {}, page {}, taille {}, champs {})", ids, page, size, fields);
+        return apiResponseWriter.collection(CurvePoint.class, ids, page, size, fields, curvePointService::findByIds, curvePointService::findPaginated);
+    }
+
+    /**
+     * Lecture d'un point de courbe.
+     *
+     * @param id     Identifiant.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return L'entité en JSON, ou {@code 404}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> get(@PathVariable("id") int id,
+                                                     @RequestParam(required = false) String fields) {
+        logger.info("API : lecture d'un point de courbe (id {}, champs {})", id, fields);
+        return apiResponseWriter.single(CurvePoint.class, id, fields, curvePointService::findByIds);
+    }
+}
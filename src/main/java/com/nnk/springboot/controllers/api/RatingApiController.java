@@ -0,0 +1,66 @@
+package com.nnk.springboot.controllers.api;
+
+import com.nnk.springboot.domain.Rating;
+import com.nnk.springboot.services.RatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * API REST en lecture des notations ({@code /api/v1/ratings}), en JSON écrit en flux.
+ */
+@RestController
+@RequestMapping("/api/v1/ratings")
+public class RatingApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingApiController.class);
+
+    private final RatingService ratingService;
+
+    private final ApiResponseWriter apiResponseWriter;
+
+    public RatingApiController(RatingService ratingService, ApiResponseWriter apiResponseWriter) {
+        this.ratingService = ratingService;
+        this.apiResponseWriter = apiResponseWriter;
+    }
+
+    /**
+     * Liste paginée des notations, ou lecture groupée par identifiants.
+     *
+     * @param ids    Identifiants demandés ({@code ids=1,2,3}) ; la pagination est alors ignorée.
+     * @param page   Numéro de page, à partir de 0.
+     * @param size   Taille de page.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return Les notations en JSON.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@RequestParam(required = false) List<Integer> ids,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String fields) {
+        logger.info("API : lecture des notations (ids {}, page {}, taille {}, champs {})", ids, page, size, fields);
+        return apiResponseWriter.collection(Rating.class, ids, page, size, fields, ratingService::findByIds, ratingService::findPaginated);
+    }
+
+    /**
+     * Lecture d'une notation.
+     *
+     * @param id     Identifiant.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return L'entité en JSON, ou {@code 404}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> get(@PathVariable("id") int id,
+                                                     @RequestParam(required = false) String fields) {
+        logger.info("API : lecture d'une notation (id {}, champs {})", id, fields);
+        return apiResponseWriter.single(Rating.class, id, fields, ratingService::findByIds);
+    }
+}
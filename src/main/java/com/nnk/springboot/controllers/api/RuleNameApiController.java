@@ -0,0 +1,66 @@
+package com.nnk.springboot.controllers.api;
+
+import com.nnk.springboot.domain.RuleName;
+import com.nnk.springboot.services.RuleNameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * API REST en lecture des règles de nom ({@code /api/v1/rulenames}), en JSON écrit en flux.
+ */
+@RestController
+@RequestMapping("/api/v1/rulenames")
+public class RuleNameApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleNameApiController.class);
+
+    private final RuleNameService ruleNameService;
+
+    private final ApiResponseWriter apiResponseWriter;
+
+    public RuleNameApiController(RuleNameService ruleNameService, ApiResponseWriter apiResponseWriter) {
+        this.ruleNameService = ruleNameService;
+        this.apiResponseWriter = apiResponseWriter;
+    }
+
+    /**
+     * Liste paginée des règles de nom, ou lecture groupée par identifiants.
+     *
+     * @param ids    Identifiants demandés ({@code ids=1,2,3}) ; la pagination est alors ignorée.
+     * @param page   Numéro de page, à partir de 0.
+     * @param size   Taille de page.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return Les règles de nom en JSON.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@RequestParam(required = false) List<Integer> ids,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String fields) {
+        logger.info("API : lecture des règles de nom (ids {}, page {}, taille {}, champs {})", ids, page, size, fields);
+        return apiResponseWriter.collection(RuleName.class, ids, page, size, fields, ruleNameService::findByIds, ruleNameService::findPaginated);
+    }
+
+    /**
+     * Lecture d'une règle de nom.
+     *
+     * @param id     Identifiant.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return L'entité en JSON, ou {@code 404}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> get(@PathVariable("id") int id,
+                                                     @RequestParam(required = false) String fields) {
+        logger.info("API : lecture d'une règle de nom (id {}, champs {})", id, fields);
+        return apiResponseWriter.single(RuleName.class, id, fields, ruleNameService::findByIds);
+    }
+}
@@ -0,0 +1,68 @@
+package com.nnk.springboot.controllers.api;
+
+import com.nnk.springboot.domain.User;
+import com.nnk.springboot.services.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * API REST en lecture des utilisateurs ({@code /api/v1/users}), en JSON écrit en flux.
+ * <p>
+ * Réservé aux administrateurs ; le mot de passe n'est jamais renvoyé.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserApiController.class);
+
+    private final UserService userService;
+
+    private final ApiResponseWriter apiResponseWriter;
+
+    public UserApiController(UserService userService, ApiResponseWriter apiResponseWriter) {
+        this.userService = userService;
+        this.apiResponseWriter = apiResponseWriter;
+    }
+
+    /**
+     * Liste paginée des utilisateurs, ou lecture groupée par identifiants.
+     *
+     * @param ids    Identifiants demandés ({@code ids=1,2,3}) ; la pagination est alors ignorée.
+     * @param page   Numéro de page, à partir de 0.
+     * @param size   Taille de page.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return Les utilisateurs en JSON.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@RequestParam(required = false) List<Integer> ids,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(required = false) Integer size,
+                                                      @RequestParam(required = false) String fields) {
+        logger.info("API : lecture des utilisateurs (ids {}, page {}, taille {}, champs {})", ids, page, size, fields);
+        return apiResponseWriter.collection(User.class, ids, page, size, fields, userService::findByIds, userService::findPaginated);
+    }
+
+    /**
+     * Lecture d'un utilisateur.
+     *
+     * @param id     Identifiant.
+     * @param fields Propriétés à renvoyer, séparées par des virgules ; toutes par défaut.
+     * @return L'entité en JSON, ou {@code 404}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> get(@PathVariable("id") int id,
+                                                     @RequestParam(required = false) String fields) {
+        logger.info("API : lecture d'un utilisateur (id {}, champs {})", id, fields);
+        return apiResponseWriter.single(User.class, id, fields, userService::findByIds);
+    }
+}
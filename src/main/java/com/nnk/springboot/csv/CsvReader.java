@@ -0,0 +1,133 @@
+package com.nnk.springboot.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lecteur CSV en flux (RFC 4180) : les enregistrements sont lus un par un, sans jamais charger
+ * le fichier en mémoire.
+ * <p>
+ * Les champs peuvent être entourés de guillemets doubles ; un guillemet à l'intérieur d'un champ
+ * est doublé ({@code ""}) et un champ entre guillemets peut contenir le séparateur ou un saut de ligne.
+ */
+public class CsvReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    /**
+     * Constructeur.
+     *
+     * @param reader    La source des caractères.
+     * @param separator Le séparateur de champs.
+     */
+    public CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Constructeur utilisant la virgule comme séparateur.
+     *
+     * @param reader La source des caractères.
+     */
+    public CsvReader(Reader reader) {
+        this(reader, ',');
+    }
+
+    /**
+     * Lit l'enregistrement suivant.
+     *
+     * @return Les champs de l'enregistrement, ou {@code null} en fin de flux.
+     * @throws IOException En cas d'erreur de lecture ou de guillemet non fermé.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        // Les lignes vides sont ignorées
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c == -1) {
+                    throw new IOException("Guillemet non fermé dans l'enregistrement de la ligne " + recordLineNumber);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n' && next != -1) {
+                        position--;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.length() == 0 && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Numéro de la ligne (à partir de 1) sur laquelle commence le dernier enregistrement lu.
+     *
+     * @return Le numéro de ligne du dernier enregistrement.
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+}
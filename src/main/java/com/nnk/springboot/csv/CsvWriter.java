@@ -0,0 +1,82 @@
+package com.nnk.springboot.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Écrivain CSV en flux (RFC 4180) : les champs sont écrits directement dans le {@link Writer}
+ * sous-jacent, sans construire l'enregistrement en mémoire.
+ * <p>
+ * Un champ est entouré de guillemets doubles uniquement s'il contient le séparateur, un guillemet
+ * ou un saut de ligne ; une valeur {@code null} est écrite comme un champ vide.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+    private final char separator;
+    private boolean firstField = true;
+
+    /**
+     * Constructeur.
+     *
+     * @param writer    La destination des caractères.
+     * @param separator Le séparateur de champs.
+     */
+    public CsvWriter(Writer writer, char separator) {
+        this.writer = writer;
+        this.separator = separator;
+    }
+
+    /**
+     * Constructeur utilisant la virgule comme séparateur.
+     *
+     * @param writer La destination des caractères.
+     */
+    public CsvWriter(Writer writer) {
+        this(writer, ',');
+    }
+
+    /**
+     * Écrit un champ de l'enregistrement en cours.
+     *
+     * @param value La valeur du champ, ou {@code null}.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public void writeField(Object value) throws IOException {
+        if (!firstField) {
+            writer.write(separator);
+        }
+        firstField = false;
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (needsQuotes(text)) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    /**
+     * Termine l'enregistrement en cours.
+     *
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public void endRecord() throws IOException {
+        writer.write("\r\n");
+        firstField = true;
+    }
+
+    private boolean needsQuotes(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == separator || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
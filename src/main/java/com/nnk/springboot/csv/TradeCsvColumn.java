@@ -0,0 +1,131 @@
+package com.nnk.springboot.csv;
+
+import com.nnk.springboot.domain.Trade;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Colonnes CSV d'un {@link Trade}, dans l'ordre de l'en-tête produit à l'export.
+ * <p>
+ * À l'import, l'en-tête est rapproché des colonnes sans tenir compte de la casse ni des
+ * tirets bas ({@code buy_quantity} et {@code buyQuantity} sont équivalents) ; l'identifiant
+ * n'est jamais importé.
+ */
+public enum TradeCsvColumn {
+
+    TRADE_ID("tradeId", t -> t.getTradeId(), null),
+    ACCOUNT("account", Trade::getAccount, Trade::setAccount),
+    TYPE("type", Trade::getType, Trade::setType),
+    BUY_QUANTITY("buyQuantity", Trade::getBuyQuantity, (t, v) -> t.setBuyQuantity(toDouble(v))),
+    SELL_QUANTITY("sellQuantity", Trade::getSellQuantity, (t, v) -> t.setSellQuantity(toDouble(v))),
+    BUY_PRICE("buyPrice", Trade::getBuyPrice, (t, v) -> t.setBuyPrice(toDouble(v))),
+    SELL_PRICE("sellPrice", Trade::getSellPrice, (t, v) -> t.setSellPrice(toDouble(v))),
+    BENCHMARK("benchmark", Trade::getBenchmark, Trade::setBenchmark),
+    TRADE_DATE("tradeDate", Trade::getTradeDate, (t, v) -> t.setTradeDate(toTimestamp(v))),
+    SECURITY("security", Trade::getSecurity, Trade::setSecurity),
+    STATUS("status", Trade::getStatus, Trade::setStatus),
+    TRADER("trader", Trade::getTrader, Trade::setTrader),
+    BOOK("book", Trade::getBook, Trade::setBook),
+    CREATION_NAME("creationName", Trade::getCreationName, Trade::setCreationName),
+    CREATION_DATE("creationDate", Trade::getCreationDate, (t, v) -> t.setCreationDate(toTimestamp(v))),
+    REVISION_NAME("revisionName", Trade::getRevisionName, Trade::setRevisionName),
+    REVISION_DATE("revisionDate", Trade::getRevisionDate, (t, v) -> t.setRevisionDate(toTimestamp(v))),
+    DEAL_NAME("dealName", Trade::getDealName, Trade::setDealName),
+    DEAL_TYPE("dealType", Trade::getDealType, Trade::setDealType),
+    SOURCE_LIST_ID("sourceListId", Trade::getSourceListId, Trade::setSourceListId),
+    SIDE("side", Trade::getSide, Trade::setSide);
+
+    private final String header;
+    private final Function<Trade, Object> getter;
+    private final BiConsumer<Trade, String> setter;
+
+    TradeCsvColumn(String header, Function<Trade, Object> getter, BiConsumer<Trade, String> setter) {
+        this.header = header;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Recherche la colonne correspondant à un nom d'en-tête.
+     *
+     * @param name Le nom lu dans l'en-tête du fichier.
+     * @return La colonne correspondante, ou {@code null} si le nom est inconnu.
+     */
+    public static TradeCsvColumn fromHeader(String name) {
+        String normalized = normalize(name);
+        for (TradeCsvColumn column : values()) {
+            if (normalize(column.header).equals(normalized)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Indique si la colonne est reprise à l'import.
+     *
+     * @return true si la valeur lue est affectée au Trade.
+     */
+    public boolean isImportable() {
+        return setter != null;
+    }
+
+    /**
+     * Affecte au Trade la valeur lue ; une valeur vide est traitée comme absente.
+     *
+     * @param trade Le Trade à renseigner.
+     * @param value La valeur brute lue dans le fichier.
+     * @throws IllegalArgumentException Si la valeur ne peut pas être convertie.
+     */
+    public void apply(Trade trade, String value) {
+        if (setter != null) {
+            setter.accept(trade, value == null || value.isBlank() ? null : value.trim());
+        }
+    }
+
+    /**
+     * Lit la valeur de la colonne sur un Trade.
+     *
+     * @param trade Le Trade à lire.
+     * @return La valeur, ou {@code null}.
+     */
+    public Object read(Trade trade) {
+        return getter.apply(trade);
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Double toDouble(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("nombre invalide '" + value + "'");
+        }
+    }
+
+    private static Timestamp toTimestamp(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.indexOf('T') > 0
+                    ? Timestamp.valueOf(LocalDateTime.parse(value))
+                    : Timestamp.valueOf(value.length() == 10 ? value + " 00:00:00" : value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("date invalide '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.nnk.springboot.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDate;
+
+/**
+ * Paramètres du générateur de données de marché ({@code app.datagen.*}).
+ *
+ * @param seed           La graine : deux exécutions avec la même graine produisent les mêmes lignes.
+ * @param threads        Le nombre de threads d'écriture.
+ * @param batchSize      Le nombre de lignes par lot JDBC (et par transaction).
+ * @param bidLists       Le nombre de soumissions ({@code BidList}).
+ * @param trades         Le nombre de transactions ({@code Trade}).
+ * @param curves         Le nombre de courbes.
+ * @param pointsPerCurve Le nombre de points ({@code CurvePoint}) par courbe.
+ * @param ratings        Le nombre de notations ({@code Rating}).
+ * @param ruleNames      Le nombre de règles ({@code RuleName}).
+ * @param accounts       Le nombre de comptes distincts.
+ * @param books          Le nombre de books distincts.
+ * @param traders        Le nombre de traders distincts.
+ * @param securities     Le nombre de titres distincts.
+ * @param skew           L'exposant de Zipf des comptes, books, traders et titres (0 pour une loi uniforme).
+ * @param endDate        La date la plus récente des données générées.
+ * @param historyDays    La profondeur d'historique des dates, en jours.
+ */
+@ConfigurationProperties("app.datagen")
+public record GeneratorSettings(
+        @DefaultValue("42") long seed,
+        @DefaultValue("4") int threads,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("1000000") long bidLists,
+        @DefaultValue("1000000") long trades,
+        @DefaultValue("2000") int curves,
+        @DefaultValue("50") int pointsPerCurve,
+        @DefaultValue("21") int ratings,
+        @DefaultValue("500") int ruleNames,
+        @DefaultValue("5000") int accounts,
+        @DefaultValue("200") int books,
+        @DefaultValue("500") int traders,
+        @DefaultValue("20000") int securities,
+        @DefaultValue("1.1") double skew,
+        @DefaultValue("2024-12-31") LocalDate endDate,
+        @DefaultValue("365") int historyDays) {
+}
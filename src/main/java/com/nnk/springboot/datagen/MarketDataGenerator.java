@@ -0,0 +1,407 @@
+package com.nnk.springboot.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Générateur de données de marché synthétiques pour les tests de charge et de volumétrie : soumissions
+ * ({@code bidlist}), transactions ({@code trade}), courbes ({@code curvepoint}) et données de référence
+ * ({@code rating}, {@code rulename}).
+ * <p>
+ * Les lignes sont écrites directement en JDBC par lots ({@code batchSize} lignes par lot, une transaction
+ * par lot), réparties entre {@code threads} threads. Chaque lot tire ses valeurs d'une source d'aléa
+ * dérivée de la graine, de la table et du numéro du lot : le contenu généré ne dépend ni du nombre de
+ * threads ni de l'ordre d'exécution. Comptes, books, traders et titres suivent une loi de Zipf
+ * ({@link ZipfSampler}), quelques valeurs concentrant l'essentiel de l'activité.
+ * <p>
+ * Les identifiants des tables à blocs d'identifiants ({@code trade}, {@code curvepoint}, {@code rating},
+ * {@code rulename}) sont réservés en une fois dans leur table {@code *_seq}, comme le ferait
+ * l'application : la génération peut donc cohabiter avec une application en cours d'exécution. Les
+ * soumissions gardent leur identifiant auto-incrémenté.
+ */
+public class MarketDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketDataGenerator.class);
+
+    private static final String CREATION_NAME = "datagen";
+
+    private static final String[] BID_TYPES = {"SPOT", "FORWARD", "SWAP", "OPTION"};
+
+    private static final String[] TRADE_TYPES = {"BUY", "SELL"};
+
+    private static final String[] STATUSES = {"OPEN", "FILLED", "PARTIAL", "CANCELLED"};
+
+    private static final String[] BENCHMARKS = {"EURIBOR", "SOFR", "SONIA", "ESTR", "TONA"};
+
+    private static final String[] SIDES = {"BID", "ASK"};
+
+    private static final String[] RULE_COLUMNS = {"bid", "ask", "bid_quantity", "ask_quantity"};
+
+    /** Maturités standard d'une courbe, en années. */
+    private static final double[] TENORS = {0.083, 0.25, 0.5, 1, 2, 3, 5, 7, 10, 15, 20, 30};
+
+    private static final String[] MOODYS = {"Aaa", "Aa1", "Aa2", "Aa3", "A1", "A2", "A3", "Baa1", "Baa2", "Baa3",
+            "Ba1", "Ba2", "Ba3", "B1", "B2", "B3", "Caa1", "Caa2", "Caa3", "Ca", "C"};
+
+    private static final String[] STANDARD = {"AAA", "AA+", "AA", "AA-", "A+", "A", "A-", "BBB+", "BBB", "BBB-",
+            "BB+", "BB", "BB-", "B+", "B", "B-", "CCC+", "CCC", "CCC-", "CC", "C"};
+
+    private final DataSource dataSource;
+
+    private final GeneratorSettings settings;
+
+    private final ZipfSampler accounts;
+
+    private final ZipfSampler books;
+
+    private final ZipfSampler traders;
+
+    private final ZipfSampler securities;
+
+    /**
+     * Constructeur.
+     *
+     * @param dataSource La source de données cible.
+     * @param settings   Les paramètres de génération.
+     */
+    public MarketDataGenerator(DataSource dataSource, GeneratorSettings settings) {
+        if (settings.threads() < 1 || settings.batchSize() < 1) {
+            throw new IllegalArgumentException("Le nombre de threads et la taille des lots doivent être positifs");
+        }
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.accounts = new ZipfSampler(settings.accounts(), settings.skew());
+        this.books = new ZipfSampler(settings.books(), settings.skew());
+        this.traders = new ZipfSampler(settings.traders(), settings.skew());
+        this.securities = new ZipfSampler(settings.securities(), settings.skew());
+    }
+
+    /**
+     * Génère l'ensemble des données : données de référence, courbes, puis soumissions et transactions.
+     *
+     * @return Le nombre de lignes écrites par table et la durée totale.
+     */
+    public Report generate() {
+        long start = System.nanoTime();
+        Map<String, Long> rows = new LinkedHashMap<>();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads(), runnable -> {
+            Thread thread = new Thread(runnable, "datagen-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            rows.put("rating", load(executor, Table.RATING, settings.ratings()));
+            rows.put("rulename", load(executor, Table.RULE_NAME, settings.ruleNames()));
+            rows.put("curvepoint", load(executor, Table.CURVE_POINT, (long) settings.curves() * settings.pointsPerCurve()));
+            rows.put("bidlist", load(executor, Table.BID_LIST, settings.bidLists()));
+            rows.put("trade", load(executor, Table.TRADE, settings.trades()));
+        } finally {
+            executor.shutdownNow();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        logger.info("Génération terminée en {} s : {}", elapsed.toSeconds(), rows);
+        return new Report(rows, elapsed);
+    }
+
+    private long load(ExecutorService executor, Table table, long count) {
+        if (count <= 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long firstId = table.sequence == null ? 0 : reserveIds(table.sequence, count);
+        int batchSize = settings.batchSize();
+        long batches = (count + batchSize - 1) / batchSize;
+        List<Future<?>> futures = new ArrayList<>();
+        for (long batch = 0; batch < batches; batch++) {
+            long from = batch * batchSize;
+            long to = Math.min(count, from + batchSize);
+            long batchIndex = batch;
+            futures.add(executor.submit(() -> {
+                writeBatch(table, firstId, from, to, random(table, batchIndex));
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Génération de la table " + table.name + " interrompue", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Échec de la génération de la table " + table.name, e.getCause());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        logger.info("Table {} : {} lignes en {} s ({} lignes/s)", table.name, count,
+                String.format("%.1f", seconds), Math.round(count / Math.max(seconds, 1e-3)));
+        return count;
+    }
+
+    /**
+     * Réserve {@code count} identifiants consécutifs dans une table de blocs d'identifiants.
+     *
+     * @return Le premier identifiant réservé.
+     */
+    private long reserveIds(String sequenceTable, long count) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long next;
+                try (PreparedStatement select = connection.prepareStatement(
+                        "select next_val from " + sequenceTable + " for update");
+                     ResultSet resultSet = select.executeQuery()) {
+                    if (!resultSet.next()) {
+                        throw new IllegalStateException("Table " + sequenceTable + " non initialisée");
+                    }
+                    next = resultSet.getLong(1);
+                }
+                try (PreparedStatement update = connection.prepareStatement(
+                        "update " + sequenceTable + " set next_val = ? where next_val = ?")) {
+                    update.setLong(1, next + count);
+                    update.setLong(2, next);
+                    if (update.executeUpdate() != 1) {
+                        throw new IllegalStateException("Réservation concurrente dans " + sequenceTable);
+                    }
+                }
+                connection.commit();
+                return next;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Réservation d'identifiants impossible dans " + sequenceTable, e);
+        }
+    }
+
+    private void writeBatch(Table table, long firstId, long from, long to, SplittableRandom random) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(table.insertSql)) {
+                for (long index = from; index < to; index++) {
+                    switch (table) {
+                        case BID_LIST -> bindBidList(statement, random);
+                        case TRADE -> bindTrade(statement, firstId + index, random);
+                        case CURVE_POINT -> bindCurvePoint(statement, firstId + index, index, random);
+                        case RATING -> bindRating(statement, firstId + index, index);
+                        case RULE_NAME -> bindRuleName(statement, firstId + index, index, random);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void bindBidList(PreparedStatement statement, SplittableRandom random) throws SQLException {
+        double mid = price(random);
+        double spread = mid * (0.0005 + random.nextDouble() * 0.002);
+        statement.setString(1, account(random));
+        statement.setString(2, pick(BID_TYPES, random));
+        statement.setDouble(3, quantity(random));
+        statement.setDouble(4, quantity(random));
+        statement.setDouble(5, round(mid - spread / 2));
+        statement.setDouble(6, round(mid + spread / 2));
+        statement.setString(7, pick(BENCHMARKS, random));
+        Timestamp date = timestamp(random);
+        statement.setTimestamp(8, date);
+        statement.setString(9, security(random));
+        statement.setString(10, pick(STATUSES, random));
+        statement.setString(11, trader(random));
+        statement.setString(12, book(random));
+        statement.setString(13, CREATION_NAME);
+        statement.setTimestamp(14, date);
+        statement.setString(15, pick(SIDES, random));
+    }
+
+    private void bindTrade(PreparedStatement statement, long id, SplittableRandom random) throws SQLException {
+        boolean buy = random.nextBoolean();
+        double quantity = quantity(random);
+        double price = round(price(random));
+        statement.setLong(1, id);
+        statement.setString(2, account(random));
+        statement.setString(3, buy ? TRADE_TYPES[0] : TRADE_TYPES[1]);
+        setNullableDouble(statement, 4, buy ? quantity : null);
+        setNullableDouble(statement, 5, buy ? null : quantity);
+        setNullableDouble(statement, 6, buy ? price : null);
+        setNullableDouble(statement, 7, buy ? null : price);
+        Timestamp date = timestamp(random);
+        statement.setTimestamp(8, date);
+        statement.setString(9, security(random));
+        statement.setString(10, pick(STATUSES, random));
+        statement.setString(11, trader(random));
+        statement.setString(12, pick(BENCHMARKS, random));
+        statement.setString(13, book(random));
+        statement.setString(14, CREATION_NAME);
+        statement.setTimestamp(15, date);
+        statement.setString(16, buy ? SIDES[0] : SIDES[1]);
+    }
+
+    /**
+     * Point de courbe : les {@code pointsPerCurve} points d'une courbe parcourent les maturités standard,
+     * sur des dates d'observation successives, autour d'une courbe de taux croissante propre à la courbe.
+     */
+    private void bindCurvePoint(PreparedStatement statement, long id, long index, SplittableRandom random)
+            throws SQLException {
+        int perCurve = settings.pointsPerCurve();
+        long curve = index / perCurve;
+        int point = (int) (index % perCurve);
+        double term = TENORS[point % TENORS.length];
+        SplittableRandom curveRandom = new SplittableRandom(mix(settings.seed(), Table.CURVE_POINT.ordinal(), ~curve));
+        double level = 0.5 + curveRandom.nextDouble() * 4;
+        double slope = curveRandom.nextDouble() * 1.5;
+        statement.setLong(1, id);
+        statement.setLong(2, curve + 1);
+        statement.setTimestamp(3, Timestamp.valueOf(
+                settings.endDate().atStartOfDay().minusDays(point / TENORS.length)));
+        statement.setDouble(4, term);
+        statement.setDouble(5, round(level + slope * Math.log1p(term) + random.nextGaussian() * 0.05));
+        statement.setTimestamp(6, timestamp(random));
+    }
+
+    private void bindRating(PreparedStatement statement, long id, long index) throws SQLException {
+        int grade = (int) (index % MOODYS.length);
+        statement.setLong(1, id);
+        statement.setString(2, MOODYS[grade]);
+        statement.setString(3, STANDARD[grade]);
+        statement.setString(4, STANDARD[grade]);
+        statement.setInt(5, (int) (index % Byte.MAX_VALUE) + 1);
+    }
+
+    private void bindRuleName(PreparedStatement statement, long id, long index, SplittableRandom random)
+            throws SQLException {
+        String column = pick(RULE_COLUMNS, random);
+        long threshold = 1 + random.nextInt(1_000_000);
+        statement.setLong(1, id);
+        statement.setString(2, "RULE-" + (index + 1));
+        statement.setString(3, "Seuil " + column + " " + threshold);
+        statement.setString(4, "{\"column\":\"" + column + "\",\"threshold\":" + threshold + "}");
+        statement.setString(5, "alert when " + column + " > {threshold}");
+        statement.setString(6, "select bid_list_id from bidlist where " + column + " > ?");
+        statement.setString(7, column + " > " + threshold);
+    }
+
+    private String account(SplittableRandom random) {
+        return String.format("ACC-%06d", accounts.sample(random) + 1);
+    }
+
+    private String book(SplittableRandom random) {
+        return String.format("BOOK-%04d", books.sample(random) + 1);
+    }
+
+    private String trader(SplittableRandom random) {
+        return String.format("TRADER-%04d", traders.sample(random) + 1);
+    }
+
+    private String security(SplittableRandom random) {
+        return String.format("SEC-%06d", securities.sample(random) + 1);
+    }
+
+    private Timestamp timestamp(SplittableRandom random) {
+        LocalDateTime end = settings.endDate().atStartOfDay();
+        long seconds = random.nextLong(Math.max(1, settings.historyDays()) * 86_400L);
+        return Timestamp.valueOf(end.minusSeconds(seconds));
+    }
+
+    /** Quantité log-normale, arrondie à la centaine : beaucoup de petits ordres, quelques très gros. */
+    private static double quantity(SplittableRandom random) {
+        return Math.max(100, Math.round(Math.exp(8 + random.nextGaussian() * 1.5) / 100) * 100d);
+    }
+
+    private static double price(SplittableRandom random) {
+        return 10 + random.nextDouble() * 490;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000d;
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void setNullableDouble(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.DOUBLE);
+        } else {
+            statement.setDouble(index, value);
+        }
+    }
+
+    private SplittableRandom random(Table table, long batch) {
+        return new SplittableRandom(mix(settings.seed(), table.ordinal(), batch));
+    }
+
+    /**
+     * Graine d'un lot : mélange (finaliseur de SplitMix64) de la graine globale, de la table et du numéro de lot.
+     */
+    private static long mix(long seed, int table, long batch) {
+        long z = seed + table * 0x9E3779B97F4A7C15L + batch * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private enum Table {
+        BID_LIST("bidlist", null, "insert into bidlist (account, type, bid_quantity, ask_quantity, bid, ask, "
+                + "benchmark, bid_list_date, security, status, trader, book, creation_name, creation_date, side) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+        TRADE("trade", "trade_seq", "insert into trade (trade_id, account, type, buy_quantity, sell_quantity, "
+                + "buy_price, sell_price, trade_date, security, status, trader, benchmark, book, creation_name, "
+                + "creation_date, side) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"),
+        CURVE_POINT("curvepoint", "curvepoint_seq", "insert into curvepoint (id, curve_id, as_of_date, term, value, "
+                + "creation_date) values (?, ?, ?, ?, ?, ?)"),
+        RATING("rating", "rating_seq", "insert into rating (id, moodys_rating, sand_p_rating, fitch_rating, "
+                + "order_number) values (?, ?, ?, ?, ?)"),
+        RULE_NAME("rulename", "rulename_seq", "insert into rulename (id, name, description, json, template, "
+                + "sql_str, sql_part) values (?, ?, ?, ?, ?, ?, ?)");
+
+        private final String name;
+
+        private final String sequence;
+
+        private final String insertSql;
+
+        Table(String name, String sequence, String insertSql) {
+            this.name = name;
+            this.sequence = sequence;
+            this.insertSql = insertSql;
+        }
+    }
+
+    /**
+     * Résultat d'une génération.
+     *
+     * @param rows    Le nombre de lignes écrites, par table.
+     * @param elapsed La durée totale.
+     */
+    public record Report(Map<String, Long> rows, Duration elapsed) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.nnk.springboot.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Lance le générateur de données de marché au démarrage, avec le profil {@code datagen} :
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=datagen -Dspring-boot.run.arguments=--app.datagen.trades=5000000
+ * </pre>
+ * Les données sont écrites sur la source de données configurée, après les migrations Flyway. L'application
+ * s'arrête à la fin de la génération, sauf si {@code app.datagen.exit-on-completion=false}.
+ */
+@Component
+@Profile("datagen")
+@EnableConfigurationProperties(GeneratorSettings.class)
+public class MarketDataGeneratorRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MarketDataGeneratorRunner.class);
+
+    private final DataSource dataSource;
+
+    private final GeneratorSettings settings;
+
+    private final ConfigurableApplicationContext context;
+
+    private final boolean exitOnCompletion;
+
+    public MarketDataGeneratorRunner(DataSource dataSource, GeneratorSettings settings,
+                                     ConfigurableApplicationContext context,
+                                     @Value("${app.datagen.exit-on-completion:true}") boolean exitOnCompletion) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.context = context;
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Génération de données de marché : {}", settings);
+        MarketDataGenerator.Report report = new MarketDataGenerator(dataSource, settings).generate();
+        long total = report.rows().values().stream().mapToLong(Long::longValue).sum();
+        logger.info("{} lignes générées en {} s", total, report.elapsed().toSeconds());
+        if (exitOnCompletion) {
+            SpringApplication.exit(context, () -> 0);
+        }
+    }
+}
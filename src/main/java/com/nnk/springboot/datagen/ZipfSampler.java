@@ -0,0 +1,56 @@
+package com.nnk.springboot.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Tirage d'un rang selon une loi de Zipf : le rang {@code k} (à partir de 0) a une probabilité
+ * proportionnelle à {@code 1 / (k + 1)^exponent}. Un exposant nul donne une loi uniforme ; vers 1, quelques
+ * valeurs concentrent l'essentiel des tirages, comme les comptes ou titres les plus actifs d'un marché.
+ * <p>
+ * La fonction de répartition est précalculée : un tirage est une recherche dichotomique. L'instance est
+ * immuable et partageable entre threads, l'aléa étant fourni par l'appelant.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    /**
+     * Constructeur.
+     *
+     * @param cardinality Le nombre de valeurs distinctes.
+     * @param exponent    L'exposant de la loi (0 pour une loi uniforme).
+     */
+    public ZipfSampler(int cardinality, double exponent) {
+        if (cardinality < 1) {
+            throw new IllegalArgumentException("La cardinalité doit être positive : " + cardinality);
+        }
+        cumulative = new double[cardinality];
+        double sum = 0;
+        for (int k = 0; k < cardinality; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < cardinality; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    /**
+     * Tire un rang.
+     *
+     * @param random La source d'aléa.
+     * @return Un rang entre 0 et {@code cardinality - 1}.
+     */
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    /**
+     * @return Le nombre de valeurs distinctes.
+     */
+    public int cardinality() {
+        return cumulative.length;
+    }
+}
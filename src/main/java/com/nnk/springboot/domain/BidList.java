@@ -1,6 +1,7 @@
 package com.nnk.springboot.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -15,7 +16,9 @@ import java.time.LocalDateTime;
  */
 @Data
 @Entity
-@Table(name = "bidlist")
+@DynamicUpdate
+@Table(name = "bidlist",
+        indexes = @Index(name = "idx_bidlist_account_type", columnList = "account, type"))
 public class BidList {
 
     @Id
@@ -4,6 +4,10 @@ import lombok.Data;
 import org.hibernate.validator.constraints.Length;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,11 +20,15 @@ import java.time.LocalDateTime;
  */
 @Data
 @Entity
-@Table(name = "curvepoint")
+@DynamicUpdate
+@Table(name = "curvepoint",
+        indexes = @Index(name = "idx_curvepoint_curve_id_as_of_date", columnList = "curve_id, as_of_date"))
 public class CurvePoint {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "curvepoint_seq")
+    @GenericGenerator(name = "curvepoint_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "curvepoint_seq"))
     private Integer id;
 
     @Column(name = "curve_id")
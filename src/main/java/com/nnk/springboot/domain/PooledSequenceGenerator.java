@@ -0,0 +1,53 @@
+package com.nnk.springboot.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Générateur d'identifiants par blocs, propre à chaque entité.
+ * <p>
+ * Chaque entité dispose de sa propre table de séquence (une seule ligne {@code next_val}).
+ * Un nœud applicatif réserve un bloc de {@code app.id.block-size} identifiants en une seule
+ * mise à jour de cette ligne, puis attribue les identifiants du bloc en mémoire : seule
+ * une insertion sur {@code block-size} accède à la ligne partagée.
+ * <p>
+ * L'optimiseur {@code pooled-lo} est utilisé : la valeur lue est la borne basse du bloc
+ * réservé ({@code [next_val, next_val + block-size)}). Des nœuds configurés avec des tailles
+ * de bloc différentes peuvent donc cohabiter sans collision, et l'initialisation de la table
+ * à {@code MAX(id) + 1} suffit à reprendre une numérotation existante.
+ * <p>
+ * La table est utilisée quel que soit le SGBD ({@code force_table_use}), afin que le schéma
+ * soit identique sous MySQL et sous H2.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Propriété Hibernate définissant la taille des blocs réservés
+     * ({@code spring.jpa.properties.app.id.block-size}).
+     */
+    public static final String BLOCK_SIZE_SETTING = "app.id.block-size";
+
+    /**
+     * Taille de bloc utilisée lorsque {@link #BLOCK_SIZE_SETTING} n'est pas définie.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Object blockSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(BLOCK_SIZE_SETTING);
+
+        parameters.setProperty(INCREMENT_PARAM, blockSize != null ? blockSize.toString() : String.valueOf(DEFAULT_BLOCK_SIZE));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        parameters.setProperty(FORCE_TBL_PARAM, "true");
+
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -2,6 +2,11 @@ package com.nnk.springboot.domain;
 
 import com.fasterxml.jackson.databind.ser.std.StdKeySerializers;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.sql.Timestamp;
@@ -12,14 +17,21 @@ import lombok.Data;
 /**
  * Représente une entité "Rating" dans la base de données.
  * Cette classe contient les informations relatives aux notations des titres financiers.
+ * Données de référence peu modifiées : les entités sont conservées dans le cache de second niveau
+ * (région {@code rating}).
  */
 @Data
 @Entity
-@Table(name = "rating")
+@Table(name = "rating",
+        indexes = @Index(name = "idx_rating_order_number", columnList = "order_number"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rating")
 public class Rating {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "rating_seq")
+    @GenericGenerator(name = "rating_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "rating_seq"))
     Integer id;
 
     @Column(name = "moodys_rating")
@@ -1,20 +1,30 @@
 package com.nnk.springboot.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
 /**
  * Représente une entité "RuleName" dans la base de données.
  * Cette classe contient les informations relatives aux règles de nom.
+ * Les entités sont conservées dans le cache de second niveau (région {@code rulename}).
  */
 @Data
 @Entity
 @Table(name = "rulename")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rulename")
 public class RuleName {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "rulename_seq")
+    @GenericGenerator(name = "rulename_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "rulename_seq"))
     private Integer id;
 
     private String name;
@@ -1,7 +1,12 @@
 package com.nnk.springboot.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.sql.Timestamp;
@@ -12,17 +17,23 @@ import java.sql.Timestamp;
  */
 @Data
 @Entity
-@Table(name = "trade")
+@DynamicUpdate
+@Table(name = "trade",
+        indexes = @Index(name = "idx_trade_account_trade_date", columnList = "account, trade_date"))
 public class Trade {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "trade_seq")
+    @GenericGenerator(name = "trade_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "trade_seq"))
     private Integer tradeId;
 
     @NotBlank(message = "Account is mandatory")
+    @Size(max = 30)
     private String account;
 
     @NotBlank(message = "Type is mandatory")
+    @Size(max = 30)
     private String type;
 
     @Column(name = "buy_quantity")
@@ -37,37 +48,51 @@ public class Trade {
     @Column(name = "sell_price")
     private Double sellPrice;
 
+    @Size(max = 125)
     private String benchmark;
 
     @Column(name = "trade_date")
     private Timestamp tradeDate;
 
+    @Size(max = 125)
     private String security;
+
+    @Size(max = 10)
     private String status;
+
+    @Size(max = 125)
     private String trader;
+
+    @Size(max = 125)
     private String book;
 
     @Column(name = "creation_name")
+    @Size(max = 125)
     private String creationName;
 
     @Column(name = "creation_date")
     private Timestamp creationDate;
 
     @Column(name = "revision_name")
+    @Size(max = 125)
     private String revisionName;
 
     @Column(name = "revision_date")
     private Timestamp revisionDate;
 
     @Column(name = "deal_name")
+    @Size(max = 125)
     private String dealName;
 
     @Column(name = "deal_type")
+    @Size(max = 125)
     private String dealType;
 
     @Column(name = "source_list_id")
+    @Size(max = 125)
     private String sourceListId;
 
+    @Size(max = 125)
     private String side;
 
 }
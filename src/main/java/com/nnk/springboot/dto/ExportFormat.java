@@ -0,0 +1,39 @@
+package com.nnk.springboot.dto;
+
+import java.util.Locale;
+
+/**
+ * Formats disponibles pour l'export en masse.
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+    JSON("application/json", "json");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Recherche un format par son nom, sans tenir compte de la casse.
+     *
+     * @param name Le nom du format ({@code csv} ou {@code json}).
+     * @return Le format correspondant.
+     * @throws IllegalArgumentException Si le format est inconnu.
+     */
+    public static ExportFormat of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,110 @@
+package com.nnk.springboot.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compte rendu d'un import en masse : nombre de lignes lues, importées, rejetées et détail
+ * des erreurs par ligne.
+ * <p>
+ * Le nombre d'erreurs détaillées est plafonné afin qu'un fichier entièrement invalide ne fasse
+ * pas grossir le rapport sans limite ; les compteurs restent exacts.
+ */
+public class ImportReport {
+
+    /**
+     * Erreur rattachée à une ligne du fichier importé.
+     *
+     * @param line    Numéro de la ligne dans le fichier (l'en-tête est la ligne 1).
+     * @param message Description de l'erreur.
+     */
+    public record RowError(long line, String message) {
+    }
+
+    private final int maxErrors;
+    private final List<RowError> errors = new ArrayList<>();
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private boolean truncated;
+    private boolean aborted;
+
+    /**
+     * Constructeur.
+     *
+     * @param maxErrors Nombre maximal d'erreurs détaillées conservées.
+     */
+    public ImportReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void rowRead() {
+        rowsRead++;
+    }
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    /**
+     * Enregistre le rejet d'une ligne.
+     *
+     * @param line    Numéro de la ligne rejetée.
+     * @param message Motif du rejet.
+     */
+    public void reject(long line, String message) {
+        rejected++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, message));
+        } else {
+            truncated = true;
+        }
+    }
+
+    /**
+     * Enregistre l'interruption de l'import : le fichier n'a pas pu être lu jusqu'au bout.
+     * Les lignes validées avant l'interruption restent importées.
+     *
+     * @param line    Numéro de la ligne à laquelle la lecture s'est arrêtée.
+     * @param message Motif de l'interruption.
+     */
+    public void abort(long line, String message) {
+        aborted = true;
+        errors.add(new RowError(line, message));
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Indique que des erreurs ont été omises du détail faute de place.
+     *
+     * @return true si le détail des erreurs est incomplet.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Indique que la lecture du fichier a été interrompue avant sa fin.
+     *
+     * @return true si l'import est incomplet.
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+}
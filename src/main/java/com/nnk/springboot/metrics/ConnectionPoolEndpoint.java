@@ -0,0 +1,46 @@
+package com.nnk.springboot.metrics;
+
+import com.nnk.springboot.web.AdmissionControlFilter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint Actuator exposant l'état des pools de connexions et du contrôle d'admission
+ * ({@code /actuator/connectionpool}).
+ */
+@Component
+@Endpoint(id = "connectionpool")
+public class ConnectionPoolEndpoint {
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    private final AdmissionControlFilter admissionControlFilter;
+
+    public ConnectionPoolEndpoint(ConnectionPoolMonitor connectionPoolMonitor, AdmissionControlFilter admissionControlFilter) {
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.admissionControlFilter = admissionControlFilter;
+    }
+
+    /**
+     * Statistiques des pools et du contrôle d'admission.
+     *
+     * @return Connexions actives, libres et en attente, histogrammes d'obtention et d'emprunt par pool,
+     * et compteurs du contrôle d'admission.
+     */
+    @ReadOperation
+    public Report report() {
+        return new Report(connectionPoolMonitor.statistics(), admissionControlFilter.statistics());
+    }
+
+    /**
+     * Contenu de l'endpoint.
+     *
+     * @param pools     Les statistiques par pool.
+     * @param admission Les compteurs du contrôle d'admission.
+     */
+    public record Report(Map<String, ConnectionPoolMonitor.Statistics> pools, AdmissionControlFilter.Statistics admission) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.nnk.springboot.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Instrumentation des pools de connexions Hikari.
+ * <p>
+ * Chaque {@link HikariDataSource} du contexte reçoit, avant son démarrage, un suivi qui mesure le temps
+ * d'obtention des connexions ({@link LatencyHistogram}) et compte les expirations d'attente. Les jauges
+ * (actives, libres, en attente) sont lues en direct sur le MXBean du pool : les statistiques fournies
+ * par Hikari aux suivis sont rafraîchies au plus une fois par seconde, trop tard pour le contrôle
+ * d'admission. Ce suivi remplace celui de Micrometer, que Spring Boot n'installe que si aucun n'est
+ * déjà défini.
+ * <p>
+ * Le retour d'une connexion au pool réveille les requêtes qui attendent une baisse de la file
+ * ({@link #awaitPendingAtMost(int, Duration)}).
+ */
+@Component
+public class ConnectionPoolMonitor implements BeanPostProcessor {
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null
+                && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(new TrackerFactory(dataSource));
+        }
+        return bean;
+    }
+
+    /**
+     * Nombre de threads en attente d'une connexion, tous pools confondus.
+     *
+     * @return Le nombre de demandes de connexion en attente.
+     */
+    public int pendingConnections() {
+        int pending = 0;
+        for (Pool pool : pools.values()) {
+            HikariPoolMXBean mxBean = pool.dataSource.getHikariPoolMXBean();
+            if (mxBean != null) {
+                pending += mxBean.getThreadsAwaitingConnection();
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Attend que le nombre de demandes de connexion en attente redescende au seuil.
+     *
+     * @param threshold Le nombre maximal de demandes en attente.
+     * @param timeout   La durée maximale d'attente.
+     * @return true si le seuil est respecté, false si le délai a expiré.
+     * @throws InterruptedException Si le thread est interrompu pendant l'attente.
+     */
+    public boolean awaitPendingAtMost(int threshold, Duration timeout) throws InterruptedException {
+        long nanos = timeout.toNanos();
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            while (pendingConnections() > threshold) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = released.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Statistiques de chaque pool.
+     *
+     * @return Les statistiques, par nom de pool.
+     */
+    public Map<String, Statistics> statistics() {
+        Map<String, Statistics> statistics = new TreeMap<>();
+        pools.forEach((name, pool) -> {
+            HikariPoolMXBean mxBean = pool.dataSource.getHikariPoolMXBean();
+            statistics.put(name, new Statistics(
+                    mxBean == null ? 0 : mxBean.getActiveConnections(),
+                    mxBean == null ? 0 : mxBean.getIdleConnections(),
+                    mxBean == null ? 0 : mxBean.getTotalConnections(),
+                    pool.dataSource.getMaximumPoolSize(),
+                    mxBean == null ? 0 : mxBean.getThreadsAwaitingConnection(),
+                    pool.timeouts.sum(),
+                    pool.acquire.snapshot(),
+                    pool.usage.snapshot()));
+        });
+        return statistics;
+    }
+
+    private void signalRelease() {
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Statistiques d'un pool.
+     *
+     * @param active  Les connexions empruntées.
+     * @param idle    Les connexions libres.
+     * @param total   Les connexions ouvertes.
+     * @param max     La taille maximale du pool.
+     * @param pending Les threads en attente d'une connexion.
+     * @param timeouts Le nombre d'attentes expirées ({@code connectionTimeout}) depuis le démarrage.
+     * @param acquire Le temps d'obtention d'une connexion.
+     * @param usage   La durée d'emprunt d'une connexion.
+     */
+    public record Statistics(int active, int idle, int total, int max, int pending, long timeouts,
+                             LatencyHistogram.Snapshot acquire, LatencyHistogram.Snapshot usage) {
+    }
+
+    private record Pool(HikariDataSource dataSource, LatencyHistogram acquire, LatencyHistogram usage,
+                        LongAdder timeouts) {
+    }
+
+    private class TrackerFactory implements MetricsTrackerFactory {
+
+        private final HikariDataSource dataSource;
+
+        TrackerFactory(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            Pool pool = new Pool(dataSource, new LatencyHistogram(), new LatencyHistogram(), new LongAdder());
+            pools.put(poolName, pool);
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    pool.acquire.record(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    pool.usage.record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+                    signalRelease();
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    pool.timeouts.increment();
+                    signalRelease();
+                }
+
+                @Override
+                public void close() {
+                    pools.remove(poolName, pool);
+                }
+            };
+        }
+    }
+}
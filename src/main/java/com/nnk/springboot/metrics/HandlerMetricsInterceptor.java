@@ -0,0 +1,50 @@
+package com.nnk.springboot.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Intercepteur mesurant la latence de chaque handler de contrôleur ({@code BidListController.home}, etc.).
+ * <p>
+ * L'heure de début est conservée dans un attribut de requête dès le premier passage : pour un traitement
+ * asynchrone (export en flux), la mesure couvre la requête jusqu'à la fin de la réponse. Une exception
+ * ou un statut 5xx compte comme une erreur.
+ */
+@Component
+public class HandlerMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = HandlerMetricsInterceptor.class.getName() + ".start";
+
+    private final MethodMetrics methodMetrics;
+
+    private final Map<Method, MethodMetrics.Timer> timers = new ConcurrentHashMap<>();
+
+    public HandlerMetricsInterceptor(MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (handler instanceof HandlerMethod handlerMethod && request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            MethodMetrics.Timer timer = timers.computeIfAbsent(handlerMethod.getMethod(), method ->
+                    methodMetrics.timer(MethodMetrics.Kind.HANDLER,
+                            handlerMethod.getBeanType().getSimpleName() + "." + method.getName()));
+            timer.record(System.nanoTime() - start, 0, ex != null || response.getStatus() >= 500);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.nnk.springboot.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Endpoint Actuator exposant, au format texte Prometheus, la latence des handlers de contrôleur et des
+ * méthodes de repository ({@code /actuator/latency}).
+ * <p>
+ * Pour chaque famille ({@code handler}, {@code repository}) : un histogramme cumulatif
+ * {@code app_<famille>_latency_seconds}, les percentiles estimés p50, p90, p99 et p999
+ * ({@code app_<famille>_latency_quantile_seconds}), le nombre d'erreurs et, pour les repositories, le
+ * nombre de lignes renvoyées.
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    /** Type de contenu du format d'exposition texte de Prometheus. */
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String[] BOUNDS = bounds();
+
+    private final MethodMetrics methodMetrics;
+
+    public LatencyEndpoint(MethodMetrics methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    /**
+     * Mesures au format texte Prometheus.
+     *
+     * @return Le texte d'exposition.
+     */
+    @ReadOperation(produces = PROMETHEUS_CONTENT_TYPE)
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8_192);
+        write(out, "handler", "des handlers de contrôleur", methodMetrics.timers(MethodMetrics.Kind.HANDLER), false);
+        write(out, "repository", "des méthodes de repository", methodMetrics.timers(MethodMetrics.Kind.REPOSITORY), true);
+        return out.toString();
+    }
+
+    private static void write(StringBuilder out, String label, String description,
+                              Map<String, MethodMetrics.Timer> timers, boolean withRows) {
+        String latency = "app_" + label + "_latency_seconds";
+        out.append("# HELP ").append(latency).append(" Latence ").append(description).append(".\n");
+        out.append("# TYPE ").append(latency).append(" histogram\n");
+        timers.forEach((name, timer) -> {
+            LatencyHistogram.Snapshot snapshot = timer.latency();
+            String labels = label + "=\"" + escape(name) + "\"";
+            long cumulative = 0;
+            long[] counts = snapshot.bucketCounts();
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                out.append(latency).append("_bucket{").append(labels).append(",le=\"").append(BOUNDS[i]).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            out.append(latency).append("_sum{").append(labels).append("} ")
+                    .append(seconds(snapshot.meanMillis() * snapshot.count())).append('\n');
+            out.append(latency).append("_count{").append(labels).append("} ").append(snapshot.count()).append('\n');
+        });
+
+        String quantile = "app_" + label + "_latency_quantile_seconds";
+        out.append("# HELP ").append(quantile).append(" Percentiles estimés de la latence ").append(description).append(".\n");
+        out.append("# TYPE ").append(quantile).append(" gauge\n");
+        timers.forEach((name, timer) -> {
+            LatencyHistogram.Snapshot snapshot = timer.latency();
+            String labels = label + "=\"" + escape(name) + "\"";
+            appendQuantile(out, quantile, labels, "0.5", snapshot.p50Millis());
+            appendQuantile(out, quantile, labels, "0.9", snapshot.p90Millis());
+            appendQuantile(out, quantile, labels, "0.99", snapshot.p99Millis());
+            appendQuantile(out, quantile, labels, "0.999", snapshot.p999Millis());
+        });
+
+        appendCounter(out, "app_" + label + "_errors_total", label, "Erreurs " + description + ".",
+                timers, MethodMetrics.Timer::errors);
+        if (withRows) {
+            appendCounter(out, "app_" + label + "_rows_total", label, "Lignes renvoyées " + description + ".",
+                    timers, MethodMetrics.Timer::rows);
+        }
+    }
+
+    private static void appendQuantile(StringBuilder out, String metric, String labels, String quantile, double millis) {
+        out.append(metric).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                .append(seconds(millis)).append('\n');
+    }
+
+    private static void appendCounter(StringBuilder out, String metric, String label, String help,
+                                      Map<String, MethodMetrics.Timer> timers,
+                                      ToLongFunction<MethodMetrics.Timer> value) {
+        out.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(metric).append(" counter\n");
+        timers.forEach((name, timer) -> out.append(metric).append('{').append(label).append("=\"").append(escape(name))
+                .append("\"} ").append(value.applyAsLong(timer)).append('\n'));
+    }
+
+    private static String seconds(double millis) {
+        return Double.toString(millis / 1_000d);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String[] bounds() {
+        long[] nanos = LatencyHistogram.bucketBoundsNanos();
+        String[] bounds = new String[nanos.length + 1];
+        for (int i = 0; i < nanos.length; i++) {
+            bounds[i] = BigDecimal.valueOf(nanos[i]).movePointLeft(9).stripTrailingZeros().toPlainString();
+        }
+        bounds[nanos.length] = "+Inf";
+        return bounds;
+    }
+}
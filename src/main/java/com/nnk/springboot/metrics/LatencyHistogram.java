@@ -0,0 +1,155 @@
+package com.nnk.springboot.metrics;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de durées à seaux fixes, sans verrou, utilisable sur les chemins chauds.
+ * <p>
+ * Les bornes suivent une progression 1-2-5 de 10 µs à 50 s, plus un seau de débordement. Les
+ * percentiles sont estimés par la borne supérieure du seau qui les contient (plafonnée par le
+ * maximum observé) : la précision est celle du seau, ce qui suffit pour repérer une dérive.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BOUNDS_NANOS = bounds();
+
+    private final LongAdder[] counts = new LongAdder[BOUNDS_NANOS.length + 1];
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructeur.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Enregistre une durée.
+     *
+     * @param nanos La durée en nanosecondes (les valeurs négatives sont ramenées à zéro).
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int index = Arrays.binarySearch(BOUNDS_NANOS, value);
+        counts[index >= 0 ? index : -index - 1].increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Enregistre une durée exprimée dans une unité quelconque.
+     *
+     * @param duration La durée.
+     * @param unit     L'unité de la durée.
+     */
+    public void record(long duration, TimeUnit unit) {
+        record(unit.toNanos(duration));
+    }
+
+    /**
+     * Bornes supérieures des seaux, en nanosecondes (le seau de débordement n'a pas de borne).
+     *
+     * @return Une copie des bornes.
+     */
+    public static long[] bucketBoundsNanos() {
+        return BOUNDS_NANOS.clone();
+    }
+
+    /**
+     * Photographie cohérente à quelques enregistrements concurrents près.
+     *
+     * @return Les compteurs et percentiles courants.
+     */
+    public Snapshot snapshot() {
+        long[] bucketCounts = new long[counts.length];
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            bucketCounts[i] = counts[i].sum();
+            count += bucketCounts[i];
+        }
+        long max = maxNanos.get();
+        return new Snapshot(count, count == 0 ? 0 : totalNanos.sum() / (double) count / 1_000_000d, toMillis(max),
+                percentile(bucketCounts, count, max, 0.50), percentile(bucketCounts, count, max, 0.90),
+                percentile(bucketCounts, count, max, 0.99), percentile(bucketCounts, count, max, 0.999), bucketCounts);
+    }
+
+    private static double percentile(long[] bucketCounts, long count, long max, double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return toMillis(i < BOUNDS_NANOS.length ? Math.min(BOUNDS_NANOS[i], max) : max);
+            }
+        }
+        return toMillis(max);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private static long[] bounds() {
+        long[] steps = {1, 2, 5};
+        long[] bounds = new long[21];
+        long decade = TimeUnit.MICROSECONDS.toNanos(10);
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = steps[i % 3] * decade;
+            if (i % 3 == 2) {
+                decade *= 10;
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Photographie d'un histogramme ; les durées sont en millisecondes.
+     *
+     * @param count        Le nombre de mesures.
+     * @param meanMillis   La moyenne.
+     * @param maxMillis    Le maximum observé.
+     * @param p50Millis    La médiane estimée.
+     * @param p90Millis    Le 90e percentile estimé.
+     * @param p99Millis    Le 99e percentile estimé.
+     * @param p999Millis   Le 99,9e percentile estimé.
+     * @param bucketCounts Le nombre de mesures par seau, dans l'ordre de {@link #bucketBoundsNanos()},
+     *                     suivi du seau de débordement.
+     */
+    public record Snapshot(long count, double meanMillis, double maxMillis, double p50Millis, double p90Millis,
+                           double p99Millis, double p999Millis, @JsonIgnore long[] bucketCounts) {
+
+        /**
+         * Répartition par seau, indexée par la borne supérieure en millisecondes ({@code +Inf} pour le
+         * débordement) ; seuls les seaux non vides sont présents.
+         *
+         * @return Les seaux non vides.
+         */
+        @JsonProperty("buckets")
+        public Map<String, Long> buckets() {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < bucketCounts.length; i++) {
+                if (bucketCounts[i] > 0) {
+                    String bound = i < BOUNDS_NANOS.length ? Double.toString(toMillis(BOUNDS_NANOS[i])) : "+Inf";
+                    buckets.put(bound, bucketCounts[i]);
+                }
+            }
+            return buckets;
+        }
+    }
+}
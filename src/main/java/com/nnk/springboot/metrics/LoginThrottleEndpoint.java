@@ -0,0 +1,31 @@
+package com.nnk.springboot.metrics;
+
+import com.nnk.springboot.web.LoginThrottleFilter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint Actuator exposant les compteurs de la limitation des tentatives de connexion
+ * ({@code /actuator/loginthrottle}).
+ */
+@Component
+@Endpoint(id = "loginthrottle")
+public class LoginThrottleEndpoint {
+
+    private final LoginThrottleFilter loginThrottleFilter;
+
+    public LoginThrottleEndpoint(LoginThrottleFilter loginThrottleFilter) {
+        this.loginThrottleFilter = loginThrottleFilter;
+    }
+
+    /**
+     * Compteurs de la limitation des connexions.
+     *
+     * @return Tentatives transmises et refusées, par adresse IP et par nom d'utilisateur.
+     */
+    @ReadOperation
+    public LoginThrottleFilter.Statistics statistics() {
+        return loginThrottleFilter.statistics();
+    }
+}
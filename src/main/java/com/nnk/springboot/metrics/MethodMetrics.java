@@ -0,0 +1,101 @@
+package com.nnk.springboot.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mesures de latence par handler de contrôleur et par méthode de repository.
+ * <p>
+ * Chaque méthode mesurée dispose d'un {@link Timer} (histogramme de latence, lignes renvoyées,
+ * erreurs), créé à la première exécution puis réutilisé : les appelants conservent la référence par
+ * {@link java.lang.reflect.Method}, de sorte qu'un enregistrement ne coûte que deux lectures d'horloge
+ * et quelques incréments sans verrou.
+ */
+@Component
+public class MethodMetrics {
+
+    /**
+     * Famille de méthodes mesurées.
+     */
+    public enum Kind {
+        HANDLER, REPOSITORY
+    }
+
+    private final Map<Kind, Map<String, Timer>> timers = new EnumMap<>(Kind.class);
+
+    /**
+     * Constructeur.
+     */
+    public MethodMetrics() {
+        for (Kind kind : Kind.values()) {
+            timers.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Renvoie le timer d'une méthode, créé au premier appel.
+     *
+     * @param kind La famille de la méthode.
+     * @param name Le nom de la méthode ({@code Classe.methode}).
+     * @return Le timer.
+     */
+    public Timer timer(Kind kind, String name) {
+        return timers.get(kind).computeIfAbsent(name, k -> new Timer());
+    }
+
+    /**
+     * Timers d'une famille, triés par nom.
+     *
+     * @param kind La famille.
+     * @return Les timers, par nom de méthode.
+     */
+    public Map<String, Timer> timers(Kind kind) {
+        return new TreeMap<>(timers.get(kind));
+    }
+
+    /**
+     * Mesures d'une méthode.
+     */
+    public static final class Timer {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder errors = new LongAdder();
+
+        /**
+         * Enregistre une exécution.
+         *
+         * @param nanos  La durée en nanosecondes.
+         * @param rows   Le nombre de lignes renvoyées.
+         * @param failed L'exécution a échoué.
+         */
+        public void record(long nanos, long rows, boolean failed) {
+            latency.record(nanos);
+            if (rows > 0) {
+                this.rows.add(rows);
+            }
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        public LatencyHistogram.Snapshot latency() {
+            return latency.snapshot();
+        }
+
+        public long rows() {
+            return rows.sum();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+    }
+}
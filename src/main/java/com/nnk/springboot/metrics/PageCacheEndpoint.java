@@ -0,0 +1,33 @@
+package com.nnk.springboot.metrics;
+
+import com.nnk.springboot.pagination.PageCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint Actuator exposant les statistiques du cache des pages de liste par type d'entité
+ * ({@code /actuator/pagecache}).
+ */
+@Component
+@Endpoint(id = "pagecache")
+public class PageCacheEndpoint {
+
+    private final PageCache pageCache;
+
+    public PageCacheEndpoint(PageCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
+    /**
+     * Statistiques du cache des pages.
+     *
+     * @return Succès, échecs, taux de succès, nombre d'entrées et génération, par type d'entité.
+     */
+    @ReadOperation
+    public Map<String, PageCache.Statistics> statistics() {
+        return pageCache.statistics();
+    }
+}
@@ -0,0 +1,31 @@
+package com.nnk.springboot.metrics;
+
+import com.nnk.springboot.config.PasswordHashingExecutor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint Actuator exposant l'état de l'exécuteur de hachage des mots de passe
+ * ({@code /actuator/passwordhashing}).
+ */
+@Component
+@Endpoint(id = "passwordhashing")
+public class PasswordHashingEndpoint {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public PasswordHashingEndpoint(PasswordHashingExecutor passwordHashingExecutor) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    /**
+     * État de l'exécuteur de hachage.
+     *
+     * @return Threads, file, hachages effectués et refusés, durée moyenne.
+     */
+    @ReadOperation
+    public PasswordHashingExecutor.Statistics statistics() {
+        return passwordHashingExecutor.statistics();
+    }
+}
@@ -0,0 +1,95 @@
+package com.nnk.springboot.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Ajoute à chaque repository Spring Data un intercepteur qui mesure la latence de ses méthodes
+ * ({@code TradeRepository.findByCursor}, etc.) et compte les lignes renvoyées.
+ * <p>
+ * Les lignes sont comptées pour les résultats de type collection, {@link Slice} et {@link Optional},
+ * et pour une entité unique ; les flux ({@link Stream}), compteurs et nombres de lignes modifiées ne
+ * sont pas comptés.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MethodMetrics> methodMetrics;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MethodMetrics> methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new Interceptor(methodMetrics.getObject(), information.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+
+    private static long countRows(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean
+                || result instanceof Stream<?>) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+
+    private static final class Interceptor implements MethodInterceptor {
+
+        private final MethodMetrics methodMetrics;
+
+        private final String repositoryName;
+
+        private final Map<Method, MethodMetrics.Timer> timers = new ConcurrentHashMap<>();
+
+        Interceptor(MethodMetrics methodMetrics, Class<?> repositoryInterface) {
+            this.methodMetrics = methodMetrics;
+            this.repositoryName = repositoryInterface.getSimpleName();
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            MethodMetrics.Timer timer = timers.computeIfAbsent(method, m ->
+                    methodMetrics.timer(MethodMetrics.Kind.REPOSITORY, repositoryName + "." + m.getName()));
+            long start = System.nanoTime();
+            boolean failed = true;
+            Object result = null;
+            try {
+                result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                timer.record(System.nanoTime() - start, failed ? 0 : countRows(result), failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.nnk.springboot.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Endpoint Actuator exposant les statistiques du cache de second niveau Hibernate, région par région
+ * ({@code /actuator/cachestats} et {@code /actuator/cachestats/{region}}).
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class SecondLevelCacheEndpoint {
+
+    private final Statistics statistics;
+
+    /**
+     * Constructeur.
+     *
+     * @param entityManagerFactory La fabrique JPA, dont on récupère les statistiques Hibernate.
+     */
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Statistiques de toutes les régions du cache de second niveau.
+     *
+     * @return Les statistiques, indexées par nom de région.
+     */
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(region, region(region));
+        }
+        return regions;
+    }
+
+    /**
+     * Statistiques d'une région du cache de second niveau.
+     *
+     * @param region Le nom de la région.
+     * @return Les statistiques de la région, ou {@code null} si elle n'existe pas.
+     */
+    @ReadOperation
+    public RegionStatistics region(@Selector String region) {
+        CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+        if (stats == null) {
+            return null;
+        }
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        return new RegionStatistics(hits, misses, stats.getPutCount(),
+                stats.getElementCountInMemory(), hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+    }
+
+    /**
+     * Statistiques d'une région.
+     *
+     * @param hits             Nombre de lectures servies par le cache.
+     * @param misses           Nombre de lectures absentes du cache (lues en base).
+     * @param puts             Nombre d'entrées ajoutées au cache.
+     * @param elementsInMemory Nombre d'entrées en mémoire, ou -1 si le fournisseur ne l'expose pas.
+     * @param hitRatio         Part des lectures servies par le cache.
+     */
+    public record RegionStatistics(long hits, long misses, long puts, long elementsInMemory, double hitRatio) {
+    }
+}
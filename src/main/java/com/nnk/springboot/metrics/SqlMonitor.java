@@ -0,0 +1,272 @@
+package com.nnk.springboot.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Journal des requêtes SQL lentes et histogramme de latence par requête normalisée.
+ * <p>
+ * Remplace {@code spring.jpa.show-sql}, qui écrit chaque requête sur la sortie standard de façon
+ * synchrone : chaque pool Hikari est enveloppé dans un {@link SqlMonitoringDataSource} qui chronomètre
+ * les exécutions JDBC. Seules les requêtes au-delà de {@code app.sql.slow-threshold} sont journalisées
+ * (niveau WARN), ainsi qu'une fraction {@code app.sql.sample-rate} des autres (niveau INFO).
+ * <p>
+ * Les requêtes sont agrégées sous leur forme normalisée (littéraux remplacés par {@code ?}, listes
+ * de paramètres réduites), dans la limite de {@code app.sql.max-statements} formes distinctes ; au-delà,
+ * les mesures sont regroupées sous {@link #OTHER_STATEMENTS}. Les plus coûteuses sont listées sur {@code /admin/sql}.
+ */
+@Component
+public class SqlMonitor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlMonitor.class);
+
+    /** Clé regroupant les mesures au-delà du nombre maximal de requêtes suivies. */
+    public static final String OTHER_STATEMENTS = "(autres requêtes)";
+
+    /** Nombre maximal de formes normalisées gardées en cache par texte SQL brut. */
+    private static final int MAX_NORMALIZED_CACHE = 2_000;
+
+    /** Longueur au-delà de laquelle un texte SQL (insertion multi-lignes, etc.) n'est pas mis en cache. */
+    private static final int MAX_CACHED_SQL_LENGTH = 4_096;
+
+    private final boolean enabled;
+
+    private final long slowThresholdNanos;
+
+    private final double sampleRate;
+
+    private final int maxStatements;
+
+    private final Map<String, Entry> statements = new ConcurrentHashMap<>();
+
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+
+    /**
+     * Constructeur.
+     *
+     * @param enabled       Active la mesure des requêtes ({@code app.sql.monitoring.enabled}).
+     * @param slowThreshold Durée au-delà de laquelle une requête est journalisée ({@code app.sql.slow-threshold}).
+     * @param sampleRate    Fraction des autres requêtes journalisées, entre 0 et 1 ({@code app.sql.sample-rate}).
+     * @param maxStatements Nombre maximal de requêtes normalisées suivies ({@code app.sql.max-statements}).
+     */
+    public SqlMonitor(@Value("${app.sql.monitoring.enabled:true}") boolean enabled,
+                      @Value("${app.sql.slow-threshold:200ms}") Duration slowThreshold,
+                      @Value("${app.sql.sample-rate:0}") double sampleRate,
+                      @Value("${app.sql.max-statements:500}") int maxStatements) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof HikariDataSource dataSource) {
+            logger.info("Mesure des requêtes SQL sur la source de données {}", beanName);
+            return new SqlMonitoringDataSource(dataSource, this);
+        }
+        return bean;
+    }
+
+    /**
+     * Enregistre l'exécution d'une requête.
+     *
+     * @param sql   Le texte SQL exécuté.
+     * @param nanos La durée d'exécution en nanosecondes.
+     */
+    public void record(String sql, long nanos) {
+        String key = normalize(sql);
+        Entry entry = statements.get(key);
+        if (entry == null) {
+            if (statements.size() >= maxStatements) {
+                key = OTHER_STATEMENTS;
+            }
+            entry = statements.computeIfAbsent(key, k -> new Entry());
+        }
+        entry.latency.record(nanos);
+        if (nanos >= slowThresholdNanos) {
+            entry.slow.increment();
+            logger.warn("Requête SQL lente ({} ms) : {}", nanos / 1_000_000, key);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            logger.info("Requête SQL ({} µs) : {}", nanos / 1_000, key);
+        }
+    }
+
+    /**
+     * Requêtes normalisées classées par temps cumulé décroissant.
+     *
+     * @param limit Le nombre maximal de requêtes renvoyées.
+     * @return Les statistiques des requêtes les plus coûteuses.
+     */
+    public List<StatementStatistics> topStatements(int limit) {
+        return statements.entrySet().stream()
+                .map(e -> {
+                    LatencyHistogram.Snapshot snapshot = e.getValue().latency.snapshot();
+                    return new StatementStatistics(e.getKey(), snapshot.count(), snapshot.meanMillis() * snapshot.count(),
+                            e.getValue().slow.sum(), snapshot);
+                })
+                .sorted(Comparator.comparingDouble(StatementStatistics::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Efface toutes les mesures.
+     */
+    public void reset() {
+        statements.clear();
+    }
+
+    /**
+     * @return La durée au-delà de laquelle une requête est journalisée, en millisecondes.
+     */
+    public long getSlowThresholdMillis() {
+        return slowThresholdNanos / 1_000_000;
+    }
+
+    /**
+     * @return La fraction des requêtes journalisées par échantillonnage.
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Forme normalisée d'une requête : littéraux remplacés par {@code ?}, listes de paramètres
+     * ({@code IN (?, ?)}, {@code VALUES (?), (?)}) réduites à un élément, espaces consécutifs réduits.
+     *
+     * @param sql Le texte SQL.
+     * @return La requête normalisée.
+     */
+    public String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String cached = normalized.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String result = normalizeSql(sql);
+        if (sql.length() <= MAX_CACHED_SQL_LENGTH && normalized.size() < MAX_NORMALIZED_CACHE) {
+            normalized.put(sql, result);
+        }
+        return result;
+    }
+
+    /**
+     * Normalisation en une passe, sans expression régulière : le coût reste linéaire même pour les
+     * insertions multi-lignes de plusieurs milliers de paramètres.
+     */
+    private static String normalizeSql(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, 1_024));
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty()) {
+                    out.append(' ');
+                }
+            } else if (c == '\'') {
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                appendCollapsed(out, "?");
+            } else if (Character.isDigit(c) && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendCollapsed(out, "?");
+            } else {
+                i++;
+                if (c == '?') {
+                    appendCollapsed(out, "?");
+                } else {
+                    out.append(c);
+                    if (c == ')') {
+                        collapse(out, "(?)");
+                    }
+                }
+            }
+        }
+        int end = out.length();
+        return end > 0 && out.charAt(end - 1) == ' ' ? out.substring(0, end - 1) : out.toString();
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static void appendCollapsed(StringBuilder out, String unit) {
+        out.append(unit);
+        collapse(out, unit);
+    }
+
+    /**
+     * Réduit une répétition finale {@code unit, unit} à un seul {@code unit}.
+     */
+    private static void collapse(StringBuilder out, String unit) {
+        int start = out.length() - unit.length();
+        if (start < 0 || out.indexOf(unit, start) != start) {
+            return;
+        }
+        int i = start;
+        if (i > 0 && out.charAt(i - 1) == ' ') {
+            i--;
+        }
+        if (i == 0 || out.charAt(i - 1) != ',') {
+            return;
+        }
+        i--;
+        if (i > 0 && out.charAt(i - 1) == ' ') {
+            i--;
+        }
+        if (i >= unit.length() && out.indexOf(unit, i - unit.length()) == i - unit.length()) {
+            out.setLength(i);
+        }
+    }
+
+    /**
+     * Statistiques d'une requête normalisée.
+     *
+     * @param sql         La requête normalisée.
+     * @param count       Le nombre d'exécutions.
+     * @param totalMillis Le temps cumulé d'exécution.
+     * @param slowCount   Le nombre d'exécutions au-delà du seuil.
+     * @param latency     L'histogramme de latence.
+     */
+    public record StatementStatistics(String sql, long count, double totalMillis, long slowCount,
+                                      LatencyHistogram.Snapshot latency) {
+    }
+
+    private static final class Entry {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LongAdder slow = new LongAdder();
+    }
+}
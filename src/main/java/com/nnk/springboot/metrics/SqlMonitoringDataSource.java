@@ -0,0 +1,138 @@
+package com.nnk.springboot.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Source de données qui chronomètre les exécutions JDBC et les transmet au {@link SqlMonitor}.
+ * <p>
+ * Les connexions et requêtes sont enveloppées dans des proxys dynamiques ; seules les méthodes
+ * {@code execute*} sont mesurées. Pour une requête de sélection, la mesure couvre l'exécution et non
+ * la lecture du {@link java.sql.ResultSet}, qui peut se poursuivre par lots en mode curseur.
+ */
+public class SqlMonitoringDataSource extends DelegatingDataSource {
+
+    private final SqlMonitor sqlMonitor;
+
+    /**
+     * Constructeur.
+     *
+     * @param target     La source de données mesurée.
+     * @param sqlMonitor Le collecteur des mesures.
+     */
+    public SqlMonitoringDataSource(DataSource target, SqlMonitor sqlMonitor) {
+        super(target);
+        this.sqlMonitor = sqlMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : target.unwrap((Class<?>) args[0]);
+                default:
+                    break;
+            }
+            Object result = SqlMonitoringDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, sql);
+            }
+            return result;
+        }
+
+        private Statement wrap(Statement statement, String sql) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            return (Statement) Proxy.newProxyInstance(SqlMonitoringDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        private String sql;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : target.unwrap((Class<?>) args[0]);
+                case "addBatch":
+                    if (sql == null && args != null && args.length > 0 && args[0] instanceof String s) {
+                        sql = s;
+                    }
+                    return SqlMonitoringDataSource.invoke(target, method, args);
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return SqlMonitoringDataSource.invoke(target, method, args);
+            }
+            String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            long start = System.nanoTime();
+            try {
+                return SqlMonitoringDataSource.invoke(target, method, args);
+            } finally {
+                sqlMonitor.record(executed, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.nnk.springboot.metrics;
+
+import com.nnk.springboot.config.UserDetailsCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint Actuator exposant les statistiques du cache des utilisateurs authentifiés
+ * ({@code /actuator/usercache}).
+ */
+@Component
+@Endpoint(id = "usercache")
+public class UserCacheEndpoint {
+
+    private final UserDetailsCache userDetailsCache;
+
+    public UserCacheEndpoint(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    /**
+     * Statistiques du cache des utilisateurs.
+     *
+     * @return Succès, échecs et nombre d'entrées.
+     */
+    @ReadOperation
+    public UserDetailsCache.Statistics statistics() {
+        return userDetailsCache.statistics();
+    }
+}
@@ -0,0 +1,92 @@
+package com.nnk.springboot.pagination;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache des nombres de lignes estimés par entité.
+ * <p>
+ * Le premier appel pour une entité exécute le comptage de façon synchrone. Ensuite, la valeur
+ * en cache est toujours renvoyée immédiatement ; lorsqu'elle est plus ancienne que
+ * {@code app.pagination.count-ttl-seconds}, un seul rafraîchissement est lancé en arrière-plan.
+ */
+@Component
+public class CountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CountEstimator.class);
+
+    private final ConcurrentMap<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "count-estimator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long ttlNanos;
+
+    /**
+     * Constructeur.
+     *
+     * @param ttlSeconds Durée de validité d'une estimation, en secondes.
+     */
+    public CountEstimator(@Value("${app.pagination.count-ttl-seconds:60}") long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * Renvoie le nombre de lignes estimé pour une entité.
+     *
+     * @param key     La clé de l'entité (nom du type).
+     * @param counter La requête de comptage exact, exécutée au premier appel puis en arrière-plan.
+     * @return Le dernier comptage connu.
+     */
+    public long estimate(String key, LongSupplier counter) {
+        Estimate estimate = estimates.get(key);
+        if (estimate == null) {
+            logger.debug("Comptage initial pour {}", key);
+            estimate = new Estimate(counter.getAsLong());
+            estimates.put(key, estimate);
+            return estimate.count;
+        }
+        if (System.nanoTime() - estimate.computedAt > ttlNanos && estimate.refreshing.compareAndSet(false, true)) {
+            Estimate stale = estimate;
+            refresher.execute(() -> {
+                try {
+                    estimates.put(key, new Estimate(counter.getAsLong()));
+                    logger.debug("Comptage rafraîchi pour {}", key);
+                } catch (RuntimeException e) {
+                    logger.warn("Échec du rafraîchissement du comptage pour {}", key, e);
+                    stale.refreshing.set(false);
+                }
+            });
+        }
+        return estimate.count;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static final class Estimate {
+        private final long count;
+        private final long computedAt = System.nanoTime();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Estimate(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.nnk.springboot.pagination;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Curseur opaque utilisé pour la pagination par clé (keyset / seek).
+ * <p>
+ * Un curseur mémorise la dernière clé vue et le sens de parcours. Il est transmis
+ * à la vue sous forme d'une chaîne Base64 (URL-safe) afin que le client ne dépende
+ * pas de son format interne.
+ */
+public final class Cursor {
+
+    private static final Logger logger = LoggerFactory.getLogger(Cursor.class);
+
+    /**
+     * Sens de parcours à partir de la clé mémorisée.
+     */
+    public enum Direction {
+        /** Lignes dont la clé est strictement supérieure. */
+        AFTER,
+        /** Lignes dont la clé est strictement inférieure. */
+        BEFORE
+    }
+
+    private final Direction direction;
+    private final int key;
+
+    private Cursor(Direction direction, int key) {
+        this.direction = direction;
+        this.key = key;
+    }
+
+    /**
+     * Crée un curseur désignant les lignes situées après la clé donnée.
+     *
+     * @param key La dernière clé de la page courante.
+     * @return Le curseur correspondant.
+     */
+    public static Cursor after(int key) {
+        return new Cursor(Direction.AFTER, key);
+    }
+
+    /**
+     * Crée un curseur désignant les lignes situées avant la clé donnée.
+     *
+     * @param key La première clé de la page courante.
+     * @return Le curseur correspondant.
+     */
+    public static Cursor before(int key) {
+        return new Cursor(Direction.BEFORE, key);
+    }
+
+    /**
+     * Décode un curseur reçu du client.
+     *
+     * @param token La représentation opaque du curseur, éventuellement {@code null}.
+     * @return Le curseur décodé, ou {@code null} si le jeton est absent ou invalide (première page).
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            Direction direction = raw.charAt(0) == 'b' ? Direction.BEFORE : Direction.AFTER;
+            return new Cursor(direction, Integer.parseInt(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            logger.warn("Curseur de pagination invalide ignoré : {}", token);
+            return null;
+        }
+    }
+
+    /**
+     * Encode le curseur sous sa forme opaque.
+     *
+     * @return La représentation Base64 URL-safe du curseur.
+     */
+    public String encode() {
+        String raw = (direction == Direction.BEFORE ? "b:" : "a:") + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public int getKey() {
+        return key;
+    }
+}
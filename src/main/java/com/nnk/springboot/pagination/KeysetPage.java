@@ -0,0 +1,102 @@
+package com.nnk.springboot.pagination;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Page de résultats obtenue par pagination par clé (keyset / seek).
+ * <p>
+ * Contrairement à une {@link org.springframework.data.domain.Page}, aucune requête
+ * {@code COUNT(*)} ni {@code OFFSET} n'est exécutée : chaque page est lue par un
+ * parcours d'index à partir de la clé mémorisée dans le {@link Cursor}. Le coût
+ * de la page N est donc identique à celui de la première page.
+ *
+ * @param <T> Le type des éléments de la page.
+ */
+public final class KeysetPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final String previousCursor;
+
+    private KeysetPage(List<T> content, String nextCursor, String previousCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+    }
+
+    /**
+     * Lit une page à partir d'un curseur.
+     * <p>
+     * {@code size + 1} lignes sont demandées afin de savoir, sans requête supplémentaire,
+     * s'il existe une page au-delà de celle retournée.
+     *
+     * @param cursor   Le curseur décodé, ou {@code null} pour la première page.
+     * @param size     Le nombre d'éléments par page.
+     * @param after    Requête renvoyant les lignes de clé supérieure, triées par clé croissante.
+     * @param before   Requête renvoyant les lignes de clé inférieure, triées par clé décroissante.
+     * @param keyOf    Fonction d'extraction de la clé d'un élément.
+     * @param <T>      Le type des éléments.
+     * @return La page lue avec ses curseurs précédent et suivant.
+     */
+    public static <T> KeysetPage<T> fetch(Cursor cursor, int size,
+                                          BiFunction<Integer, Limit, List<T>> after,
+                                          BiFunction<Integer, Limit, List<T>> before,
+                                          ToIntFunction<T> keyOf) {
+        Limit limit = Limit.of(size + 1);
+
+        if (cursor != null && cursor.getDirection() == Cursor.Direction.BEFORE) {
+            List<T> rows = new ArrayList<>(before.apply(cursor.getKey(), limit));
+            boolean hasPrevious = rows.size() > size;
+            if (hasPrevious) {
+                rows.remove(rows.size() - 1);
+            }
+            Collections.reverse(rows);
+            if (rows.isEmpty()) {
+                // Plus rien avant la clé (lignes supprimées entre-temps) : on repart de la première page
+                return fetch(null, size, after, before, keyOf);
+            }
+            return new KeysetPage<>(rows,
+                    Cursor.after(keyOf.applyAsInt(rows.get(rows.size() - 1))).encode(),
+                    hasPrevious ? Cursor.before(keyOf.applyAsInt(rows.get(0))).encode() : null);
+        }
+
+        List<T> rows = new ArrayList<>(after.apply(cursor == null ? Integer.MIN_VALUE : cursor.getKey(), limit));
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+        if (rows.isEmpty()) {
+            return new KeysetPage<>(rows, null,
+                    cursor != null ? Cursor.before(cursor.getKey() + 1).encode() : null);
+        }
+        return new KeysetPage<>(rows,
+                hasNext ? Cursor.after(keyOf.applyAsInt(rows.get(rows.size() - 1))).encode() : null,
+                cursor != null ? Cursor.before(keyOf.applyAsInt(rows.get(0))).encode() : null);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPreviousCursor() {
+        return previousCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+}
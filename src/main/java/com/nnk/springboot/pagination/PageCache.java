@@ -0,0 +1,207 @@
+package com.nnk.springboot.pagination;
+
+import com.nnk.springboot.config.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache en lecture des pages de liste, placé devant les requêtes paginées des services.
+ * <p>
+ * Une entrée est indexée par type d'entité, numéro de page, taille, tri et génération du type.
+ * Chaque écriture ({@link #invalidate(Class)}) incrémente la génération de son type : les pages
+ * déjà en cache ne sont plus jamais lues et sortent du cache au fil des évictions LRU. Le cache
+ * est borné en nombre d'entrées.
+ * <p>
+ * Seules les pages des écrans de liste sont conservées : au plus {@code max-page-size} lignes et parmi
+ * les {@code max-page-number} premières pages. Les grandes pages de l'API REST et le parcours complet
+ * d'une table sont chargés sans passer par le cache : ils n'y retiennent pas des milliers d'entités et
+ * n'évincent pas les pages les plus consultées.
+ * <p>
+ * Le chargement d'une page absente se fait hors verrou ; deux requêtes simultanées sur la même
+ * page peuvent donc la charger toutes les deux, la dernière écriture l'emportant. Une page lue sur le
+ * réplica ({@link ReadWriteRoutingDataSource#isReplicaRead()}) n'est pas mise en cache : en retard sur
+ * la base primaire, elle serait servie sous la génération courante.
+ */
+@Component
+public class PageCache {
+
+    private final boolean enabled;
+
+    private final int maxEntries;
+
+    private final int maxPageSize;
+
+    private final int maxPageNumber;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LinkedHashMap<Key, Slice<?>> entries;
+
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructeur.
+     *
+     * @param enabled    Active le cache ({@code app.pagination.cache.enabled}).
+     * @param maxEntries    Nombre maximal de pages conservées, tous types confondus
+     *                      ({@code app.pagination.cache.max-entries}).
+     * @param maxPageSize   Taille maximale d'une page conservée ({@code app.pagination.cache.max-page-size},
+     *                      par défaut la taille maximale des écrans de liste).
+     * @param maxPageNumber Nombre de premières pages conservées ({@code app.pagination.cache.max-page-number}).
+     */
+    public PageCache(@Value("${app.pagination.cache.enabled:true}") boolean enabled,
+                     @Value("${app.pagination.cache.max-entries:1000}") int maxEntries,
+                     @Value("${app.pagination.cache.max-page-size:${spring.data.web.pageable.max-page-size:20}}") int maxPageSize,
+                     @Value("${app.pagination.cache.max-page-number:10}") int maxPageNumber) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxPageSize = maxPageSize;
+        this.maxPageNumber = maxPageNumber;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Slice<?>> eldest) {
+                return size() > PageCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Renvoie la page en cache, ou la charge et la met en cache. Une page trop grande ou trop éloignée
+     * du début est chargée sans passer par le cache.
+     *
+     * @param type     Le type d'entité paginé.
+     * @param pageable Les informations de pagination.
+     * @param loader   Le chargement de la page en cas d'absence.
+     * @param <T>      Le type des éléments.
+     * @return La page demandée.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Slice<T> get(Class<T> type, Pageable pageable, Supplier<Slice<T>> loader) {
+        if (!enabled || pageable.isUnpaged() || pageable.getPageSize() > maxPageSize
+                || pageable.getPageNumber() >= maxPageNumber) {
+            return loader.get();
+        }
+        Key key = new Key(type, generation(type).get(), pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        Counters stats = counters(type);
+
+        Slice<T> page;
+        lock.lock();
+        try {
+            page = (Slice<T>) entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (page != null) {
+            stats.hits.increment();
+            return page;
+        }
+
+        stats.misses.increment();
+        page = loader.get();
+        if (ReadWriteRoutingDataSource.isReplicaRead()) {
+            return page;
+        }
+        lock.lock();
+        try {
+            entries.put(key, page);
+        } finally {
+            lock.unlock();
+        }
+        return page;
+    }
+
+    /**
+     * Invalide toutes les pages d'un type d'entité, à appeler après chaque écriture.
+     * <p>
+     * Dans une transaction, l'invalidation est répétée à la fin de celle-ci : une page relue entre
+     * l'écriture et sa validation (donc sans la modification) n'est pas servie ensuite.
+     *
+     * @param type Le type d'entité modifié.
+     */
+    public void invalidate(Class<?> type) {
+        AtomicLong generation = generation(type);
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Statistiques du cache pour chaque type d'entité.
+     *
+     * @return Les statistiques, indexées par nom simple du type.
+     */
+    public Map<String, Statistics> statistics() {
+        Map<Class<?>, Integer> sizes = new HashMap<>();
+        lock.lock();
+        try {
+            for (Key key : entries.keySet()) {
+                if (key.generation() == generation(key.type()).get()) {
+                    sizes.merge(key.type(), 1, Integer::sum);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        Map<String, Statistics> statistics = new TreeMap<>();
+        counters.forEach((type, stats) -> {
+            long hits = stats.hits.sum();
+            long misses = stats.misses.sum();
+            statistics.put(type.getSimpleName(), new Statistics(hits, misses,
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses),
+                    sizes.getOrDefault(type, 0), generation(type).get()));
+        });
+        return statistics;
+    }
+
+    private AtomicLong generation(Class<?> type) {
+        return generations.computeIfAbsent(type, t -> new AtomicLong());
+    }
+
+    private Counters counters(Class<?> type) {
+        return counters.computeIfAbsent(type, t -> new Counters());
+    }
+
+    private record Key(Class<?> type, long generation, int page, int size, Sort sort) {
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    /**
+     * Statistiques d'un type d'entité.
+     *
+     * @param hits       Nombre de pages servies par le cache.
+     * @param misses     Nombre de pages chargées depuis la base.
+     * @param hitRatio   Part des pages servies par le cache.
+     * @param entries    Nombre de pages en cache pour la génération courante.
+     * @param generation Génération courante (nombre d'invalidations).
+     */
+    public record Statistics(long hits, long misses, double hitRatio, int entries, long generation) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.nnk.springboot.pagination;
+
+/**
+ * Mode de pagination des listes, configuré par la propriété {@code app.pagination.mode}.
+ */
+public enum PaginationMode {
+
+    /** Page complète : une requête de contenu et une requête {@code COUNT(*)} exacte. */
+    PAGE,
+
+    /** Tranche sans comptage : {@code size + 1} lignes sont lues pour savoir s'il existe une page suivante. */
+    SLICE,
+
+    /** Tranche sans comptage, accompagnée d'un total estimé mis en cache et rafraîchi en arrière-plan. */
+    ESTIMATED
+}
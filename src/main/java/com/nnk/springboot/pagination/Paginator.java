@@ -0,0 +1,71 @@
+package com.nnk.springboot.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Applique le {@link PaginationMode} configuré aux requêtes paginées des services.
+ * <p>
+ * En mode {@link PaginationMode#SLICE} ou {@link PaginationMode#ESTIMATED}, aucune requête
+ * {@code COUNT(*)} n'est exécutée lors de l'affichage d'une liste.
+ */
+@Component
+public class Paginator {
+
+    private final PaginationMode mode;
+
+    private final CountEstimator countEstimator;
+
+    /**
+     * Constructeur.
+     *
+     * @param mode           Le mode de pagination configuré ({@code app.pagination.mode}).
+     * @param countEstimator Le cache des comptages estimés.
+     */
+    public Paginator(@Value("${app.pagination.mode:page}") PaginationMode mode, CountEstimator countEstimator) {
+        this.mode = mode;
+        this.countEstimator = countEstimator;
+    }
+
+    /**
+     * Exécute une requête paginée selon le mode configuré.
+     *
+     * @param type       Le type d'entité paginé, utilisé comme clé de l'estimation.
+     * @param pageable   Les informations de pagination.
+     * @param sliceQuery La requête renvoyant une tranche sans comptage.
+     * @param pageQuery  La requête renvoyant une page avec comptage exact.
+     * @param counter    La requête de comptage exact utilisée pour l'estimation.
+     * @param <T>        Le type des éléments.
+     * @return Une {@link Page} en modes {@code PAGE} et {@code ESTIMATED}, une simple {@link Slice} sinon.
+     */
+    public <T> Slice<T> paginate(Class<T> type, Pageable pageable,
+                                 Function<Pageable, Slice<T>> sliceQuery,
+                                 Function<Pageable, Page<T>> pageQuery,
+                                 LongSupplier counter) {
+        switch (mode) {
+            case SLICE:
+                return sliceQuery.apply(pageable);
+            case ESTIMATED:
+                Slice<T> slice = sliceQuery.apply(pageable);
+                long estimated = countEstimator.estimate(type.getName(), counter);
+                // Sur la dernière tranche le total est exact ; ailleurs l'estimation peut être en retard,
+                // on garantit donc au moins l'accès à la page suivante
+                long seen = pageable.getOffset() + slice.getNumberOfElements();
+                long total = slice.hasNext() ? Math.max(estimated, seen + 1) : seen;
+                return new PageImpl<>(slice.getContent(), pageable, total);
+            default:
+                return pageQuery.apply(pageable);
+        }
+    }
+
+    public PaginationMode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nnk.springboot.repositories;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Insertion JDBC par lots pour les entités dont l'identifiant est généré par la base ({@code IDENTITY}).
+ * <p>
+ * Hibernate désactive le batching JDBC pour les clés {@code IDENTITY} : chaque {@code save()} est un
+ * aller-retour. Cette classe envoie les lignes par lots de {@code chunkSize} via
+ * {@link PreparedStatement#executeBatch()} puis relit les clés générées pour les affecter aux objets.
+ * Aucun contexte de persistance n'est alimenté, la mémoire reste donc constante quel que soit
+ * le nombre de lignes. Sous MySQL, {@code rewriteBatchedStatements=true} transforme chaque lot
+ * en un unique {@code INSERT} multi-lignes.
+ * <p>
+ * La connexion utilisée est celle de la transaction en cours.
+ *
+ * @param <T> Le type des lignes insérées.
+ */
+public final class BatchInsertSupport<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchInsertSupport.class);
+
+    /**
+     * Affecte les paramètres d'une ligne à l'ordre {@code INSERT} préparé.
+     *
+     * @param <T> Le type des lignes.
+     */
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+    private final RowBinder<T> binder;
+    private final ObjIntConsumer<T> idSetter;
+    private final int chunkSize;
+
+    /**
+     * Constructeur.
+     *
+     * @param jdbcTemplate Le template JDBC de l'application.
+     * @param insertSql    L'ordre {@code INSERT} paramétré, sans la colonne d'identifiant.
+     * @param binder       L'affectation des paramètres d'une ligne.
+     * @param idSetter     L'affectation de l'identifiant généré à la ligne.
+     * @param chunkSize    Le nombre de lignes envoyées par lot.
+     */
+    public BatchInsertSupport(JdbcTemplate jdbcTemplate, String insertSql, RowBinder<T> binder,
+                              ObjIntConsumer<T> idSetter, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("La taille de lot doit être positive : " + chunkSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = insertSql;
+        this.binder = binder;
+        this.idSetter = idSetter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Insère toutes les lignes par lots et leur affecte les identifiants générés.
+     *
+     * @param rows Les lignes à insérer.
+     * @return Le nombre de lignes insérées.
+     */
+    public int insertAll(Collection<? extends T> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            int inserted = 0;
+            try (PreparedStatement statement = connection.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+                List<T> pending = new ArrayList<>(Math.min(chunkSize, rows.size()));
+                for (T row : rows) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                    pending.add(row);
+                    if (pending.size() == chunkSize) {
+                        inserted += executeChunk(statement, pending);
+                    }
+                }
+                if (!pending.isEmpty()) {
+                    inserted += executeChunk(statement, pending);
+                }
+            }
+            logger.debug("{} lignes insérées par lots de {}", inserted, chunkSize);
+            return inserted;
+        });
+    }
+
+    private int executeChunk(PreparedStatement statement, List<T> pending) throws SQLException {
+        statement.executeBatch();
+        int index = 0;
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            while (keys.next() && index < pending.size()) {
+                idSetter.accept(pending.get(index++), keys.getInt(1));
+            }
+        }
+        if (index < pending.size()) {
+            logger.warn("Le pilote n'a renvoyé que {} clés générées pour {} lignes", index, pending.size());
+        }
+        int count = pending.size();
+        pending.clear();
+        return count;
+    }
+}
@@ -1,9 +1,19 @@
 package com.nnk.springboot.repositories;
 
 import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.repositories.projections.BidListSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface pour la gestion des opérations de base de données liées aux entités {@link BidList}.
@@ -15,8 +25,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * - Gestion automatique des transactions.
  * - Support pour la pagination et le tri.
  * - Extension facile pour des requêtes personnalisées.
+ * - Insertion en masse par lots JDBC via {@link BidListRepositoryCustom}.
  */
-public interface BidListRepository extends JpaRepository<BidList, Integer> {
+public interface BidListRepository extends JpaRepository<BidList, Integer>, BidListRepositoryCustom {
 
     /**
      * Récupère toutes les {@link BidList} avec prise en charge de la pagination.
@@ -25,4 +36,54 @@ public interface BidListRepository extends JpaRepository<BidList, Integer> {
      * @return Un objet {@link Page} contenant une liste paginée de {@link BidList}.
      */
     Page<BidList> findAll(Pageable pageable);
+
+    /**
+     * Récupère le résumé ({@link BidListSummary}) des {@link BidList} dont l'identifiant est supérieur à la clé donnée (pagination par clé).
+     *
+     * @param bidListId La dernière clé lue.
+     * @param limit     Le nombre maximal de lignes à retourner.
+     * @return Les soumissions suivantes, triées par identifiant croissant.
+     */
+    List<BidListSummary> findByBidListIdGreaterThanOrderByBidListIdAsc(Integer bidListId, Limit limit);
+
+    /**
+     * Récupère le résumé ({@link BidListSummary}) des {@link BidList} dont l'identifiant est inférieur à la clé donnée (pagination par clé).
+     *
+     * @param bidListId La première clé de la page courante.
+     * @param limit     Le nombre maximal de lignes à retourner.
+     * @return Les soumissions précédentes, triées par identifiant décroissant.
+     */
+    List<BidListSummary> findByBidListIdLessThanOrderByBidListIdDesc(Integer bidListId, Limit limit);
+
+    /**
+     * Récupère une tranche de {@link BidList} sans exécuter de requête {@code COUNT(*)}.
+     * <p>
+     * Une ligne de plus que la taille de page est lue pour déterminer s'il existe une tranche suivante.
+     *
+     * @param pageable Un objet {@link Pageable} spécifiant la taille de la page, le numéro de page et le tri.
+     * @return Un objet {@link Slice} contenant les soumissions de la tranche demandée.
+     */
+    Slice<BidList> findAllBy(Pageable pageable);
+
+    /**
+     * Supprime une soumission par une seule requête {@code DELETE}, sans la charger au préalable.
+     *
+     * @param id L'identifiant de la soumission.
+     * @return Le nombre de lignes supprimées (0 ou 1).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from BidList b where b.bidListId = :id")
+    int deleteRowById(@Param("id") Integer id);
+
+    /**
+     * Supprime plusieurs soumissions par une seule requête {@code DELETE ... IN}.
+     *
+     * @param ids Les identifiants des soumissions.
+     * @return Le nombre de lignes supprimées.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from BidList b where b.bidListId in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,19 @@
+package com.nnk.springboot.repositories;
+
+import com.nnk.springboot.domain.BidList;
+
+import java.util.Collection;
+
+/**
+ * Opérations d'insertion en masse des {@link BidList}, implémentées en JDBC par lots.
+ */
+public interface BidListRepositoryCustom {
+
+    /**
+     * Insère toutes les soumissions par lots JDBC et leur affecte les identifiants générés.
+     *
+     * @param bidLists Les soumissions à insérer.
+     * @return Le nombre de soumissions insérées.
+     */
+    int insertAll(Collection<BidList> bidLists);
+}
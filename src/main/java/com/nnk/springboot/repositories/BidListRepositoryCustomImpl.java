@@ -0,0 +1,55 @@
+package com.nnk.springboot.repositories;
+
+import com.nnk.springboot.domain.BidList;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.Collection;
+
+/**
+ * Implémentation JDBC de {@link BidListRepositoryCustom}.
+ */
+public class BidListRepositoryCustomImpl implements BidListRepositoryCustom {
+
+    private static final String INSERT_SQL = "insert into bidlist (account, type, bid_quantity, ask_quantity, bid, ask, "
+            + "benchmark, bid_list_date, commentary, security, status, trader, book, creation_name, creation_date, "
+            + "revision_name, revision_date, deal_name, deal_type, source_list_id, side) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final BatchInsertSupport<BidList> batchInsert;
+
+    public BidListRepositoryCustomImpl(JdbcTemplate jdbcTemplate,
+                                       @Value("${app.batch.insert.chunk-size:1000}") int chunkSize) {
+        this.batchInsert = new BatchInsertSupport<>(jdbcTemplate, INSERT_SQL, (statement, bid) -> {
+            statement.setString(1, bid.getAccount());
+            statement.setString(2, bid.getType());
+            statement.setObject(3, bid.getBidQuantity(), Types.DOUBLE);
+            statement.setObject(4, bid.getAskQuantity(), Types.DOUBLE);
+            statement.setObject(5, bid.getBid(), Types.DOUBLE);
+            statement.setObject(6, bid.getAsk(), Types.DOUBLE);
+            statement.setString(7, bid.getBenchmark());
+            statement.setTimestamp(8, bid.getBidListDate());
+            statement.setString(9, bid.getCommentary());
+            statement.setString(10, bid.getSecurity());
+            statement.setString(11, bid.getStatus());
+            statement.setString(12, bid.getTrader());
+            statement.setString(13, bid.getBook());
+            statement.setString(14, bid.getCreationName());
+            statement.setTimestamp(15, bid.getCreationDate());
+            statement.setString(16, bid.getRevisionName());
+            statement.setTimestamp(17, bid.getRevisionDate());
+            statement.setString(18, bid.getDealName());
+            statement.setString(19, bid.getDealType());
+            statement.setString(20, bid.getSourceListId());
+            statement.setString(21, bid.getSide());
+        }, BidList::setBidListId, chunkSize);
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(Collection<BidList> bidLists) {
+        return batchInsert.insertAll(bidLists);
+    }
+}
@@ -1,7 +1,15 @@
 package com.nnk.springboot.repositories;
 
 import com.nnk.springboot.domain.CurvePoint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 
 /**
  * Interface pour la gestion des opérations de base de données liées aux entités {@link CurvePoint}.
@@ -16,4 +24,36 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface CurvePointRepository extends JpaRepository<CurvePoint, Integer> {
     // Hérite des méthodes de JpaRepository pour manipuler les entités CurvePoint.
+
+    /**
+     * Récupère une tranche de {@link CurvePoint} sans exécuter de requête {@code COUNT(*)}.
+     * <p>
+     * Une ligne de plus que la taille de page est lue pour déterminer s'il existe une tranche suivante.
+     *
+     * @param pageable Un objet {@link Pageable} spécifiant la taille de la page, le numéro de page et le tri.
+     * @return Un objet {@link Slice} contenant les points de courbe de la tranche demandée.
+     */
+    Slice<CurvePoint> findAllBy(Pageable pageable);
+
+    /**
+     * Supprime un point de courbe par une seule requête {@code DELETE}, sans le charger au préalable.
+     *
+     * @param id L'identifiant du point de courbe.
+     * @return Le nombre de lignes supprimées (0 ou 1).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CurvePoint c where c.id = :id")
+    int deleteRowById(@Param("id") Integer id);
+
+    /**
+     * Supprime plusieurs points de courbe par une seule requête {@code DELETE ... IN}.
+     *
+     * @param ids Les identifiants des points de courbe.
+     * @return Le nombre de lignes supprimées.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CurvePoint c where c.id in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -1,7 +1,15 @@
 package com.nnk.springboot.repositories;
 
 import com.nnk.springboot.domain.Rating;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 
 /**
  * Interface pour la gestion des opérations de base de données liées aux entités {@link Rating}.
@@ -24,4 +32,36 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface RatingRepository extends JpaRepository<Rating, Integer> {
     // Hérite des méthodes CRUD et des fonctionnalités avancées de JpaRepository.
+
+    /**
+     * Récupère une tranche de {@link Rating} sans exécuter de requête {@code COUNT(*)}.
+     * <p>
+     * Une ligne de plus que la taille de page est lue pour déterminer s'il existe une tranche suivante.
+     *
+     * @param pageable Un objet {@link Pageable} spécifiant la taille de la page, le numéro de page et le tri.
+     * @return Un objet {@link Slice} contenant les notations de la tranche demandée.
+     */
+    Slice<Rating> findAllBy(Pageable pageable);
+
+    /**
+     * Supprime une notation par une seule requête {@code DELETE}, sans la charger au préalable.
+     *
+     * @param id L'identifiant de la notation.
+     * @return Le nombre de lignes supprimées (0 ou 1).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Rating r where r.id = :id")
+    int deleteRowById(@Param("id") Integer id);
+
+    /**
+     * Supprime plusieurs notations par une seule requête {@code DELETE ... IN}.
+     *
+     * @param ids Les identifiants des notations.
+     * @return Le nombre de lignes supprimées.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Rating r where r.id in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Integer> ids);
 }
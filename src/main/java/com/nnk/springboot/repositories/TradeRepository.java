@@ -1,7 +1,22 @@
 package com.nnk.springboot.repositories;
 
 import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.repositories.projections.TradeSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface pour la gestion des opérations de base de données liées aux entités {@link Trade}.
@@ -28,5 +43,77 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @see Trade
  */
 public interface TradeRepository extends JpaRepository<Trade, Integer> {
-    // Hérite des méthodes CRUD et fonctionnalités avancées de JpaRepository.
+
+    /**
+     * Nombre de lignes lues par aller-retour avec la base lors d'un parcours en flux.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * Récupère le résumé ({@link TradeSummary}) des {@link Trade} dont l'identifiant est supérieur à la clé donnée (pagination par clé).
+     *
+     * @param tradeId La dernière clé lue.
+     * @param limit   Le nombre maximal de lignes à retourner.
+     * @return Les transactions suivantes, triées par identifiant croissant.
+     */
+    List<TradeSummary> findByTradeIdGreaterThanOrderByTradeIdAsc(Integer tradeId, Limit limit);
+
+    /**
+     * Récupère le résumé ({@link TradeSummary}) des {@link Trade} dont l'identifiant est inférieur à la clé donnée (pagination par clé).
+     *
+     * @param tradeId La première clé de la page courante.
+     * @param limit   Le nombre maximal de lignes à retourner.
+     * @return Les transactions précédentes, triées par identifiant décroissant.
+     */
+    List<TradeSummary> findByTradeIdLessThanOrderByTradeIdDesc(Integer tradeId, Limit limit);
+
+    /**
+     * Récupère une tranche de {@link Trade} sans exécuter de requête {@code COUNT(*)}.
+     * <p>
+     * Une ligne de plus que la taille de page est lue pour déterminer s'il existe une tranche suivante.
+     *
+     * @param pageable Un objet {@link Pageable} spécifiant la taille de la page, le numéro de page et le tri.
+     * @return Un objet {@link Slice} contenant les transactions de la tranche demandée.
+     */
+    Slice<Trade> findAllBy(Pageable pageable);
+
+    /**
+     * Parcourt toutes les {@link Trade} en flux, triées par identifiant, sans matérialiser le résultat.
+     * <p>
+     * Les lignes sont lues par blocs de {@value #STREAM_FETCH_SIZE} et les entités chargées en lecture
+     * seule (aucune copie conservée pour la détection des modifications). Le flux doit être consommé
+     * et fermé dans une transaction ; l'appelant détache les entités au fil de la lecture pour que
+     * le contexte de persistance ne grossisse pas.
+     *
+     * @return Un flux de transactions, à fermer après usage.
+     */
+    @Query("select t from Trade t order by t.tradeId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Trade> streamAllByOrderByTradeIdAsc();
+
+    /**
+     * Supprime une transaction par une seule requête {@code DELETE}, sans la charger au préalable.
+     *
+     * @param id L'identifiant de la transaction.
+     * @return Le nombre de lignes supprimées (0 ou 1).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Trade t where t.tradeId = :id")
+    int deleteRowById(@Param("id") Integer id);
+
+    /**
+     * Supprime plusieurs transactions par une seule requête {@code DELETE ... IN}.
+     *
+     * @param ids Les identifiants des transactions.
+     * @return Le nombre de lignes supprimées.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Trade t where t.tradeId in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -1,9 +1,16 @@
 package com.nnk.springboot.repositories;
 
 import com.nnk.springboot.domain.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +25,7 @@ import java.util.Optional;
  *     <li>Rechercher un utilisateur par ID ou par nom d'utilisateur.</li>
  *     <li>Récupérer tous les utilisateurs.</li>
  *     <li>Étendre les fonctionnalités grâce à {@link JpaSpecificationExecutor}.</li>
+ *     <li>Insérer des utilisateurs en masse par lots JDBC via {@link UserRepositoryCustom}.</li>
  * </ul>
  *
  * Exemple d'utilisation :
@@ -32,7 +40,7 @@ import java.util.Optional;
  * @see JpaSpecificationExecutor
  * @see User
  */
-public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
 
     /**
      * Recherche un utilisateur par son ID.
@@ -56,4 +64,48 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
      * @return Un objet {@link Optional} contenant l'utilisateur correspondant s'il existe, sinon {@link Optional} vide.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Récupère une tranche de {@link User} sans exécuter de requête {@code COUNT(*)}.
+     * <p>
+     * Une ligne de plus que la taille de page est lue pour déterminer s'il existe une tranche suivante.
+     *
+     * @param pageable Un objet {@link Pageable} spécifiant la taille de la page, le numéro de page et le tri.
+     * @return Un objet {@link Slice} contenant les utilisateurs de la tranche demandée.
+     */
+    Slice<User> findAllBy(Pageable pageable);
+
+    /**
+     * Remplace le mot de passe encodé d'un utilisateur par une seule requête {@code UPDATE}.
+     *
+     * @param username Le nom d'utilisateur.
+     * @param password Le mot de passe déjà encodé.
+     * @return Le nombre de lignes modifiées (0 ou 1).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    /**
+     * Supprime un utilisateur par une seule requête {@code DELETE}, sans le charger au préalable.
+     *
+     * @param id L'identifiant de l'utilisateur.
+     * @return Le nombre de lignes supprimées (0 ou 1).
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.id = :id")
+    int deleteRowById(@Param("id") Integer id);
+
+    /**
+     * Supprime plusieurs utilisateurs par une seule requête {@code DELETE ... IN}.
+     *
+     * @param ids Les identifiants des utilisateurs.
+     * @return Le nombre de lignes supprimées.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.id in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Integer> ids);
 }
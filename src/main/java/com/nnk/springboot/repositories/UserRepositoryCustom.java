@@ -0,0 +1,21 @@
+package com.nnk.springboot.repositories;
+
+import com.nnk.springboot.domain.User;
+
+import java.util.Collection;
+
+/**
+ * Opérations d'insertion en masse des {@link User}, implémentées en JDBC par lots.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Insère tous les utilisateurs par lots JDBC et leur affecte les identifiants générés.
+     * <p>
+     * Les mots de passe doivent déjà être encodés.
+     *
+     * @param users Les utilisateurs à insérer.
+     * @return Le nombre d'utilisateurs insérés.
+     */
+    int insertAll(Collection<User> users);
+}
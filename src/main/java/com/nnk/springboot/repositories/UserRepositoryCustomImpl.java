@@ -0,0 +1,34 @@
+package com.nnk.springboot.repositories;
+
+import com.nnk.springboot.domain.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Implémentation JDBC de {@link UserRepositoryCustom}.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String INSERT_SQL = "insert into users (username, password, fullname, role) values (?, ?, ?, ?)";
+
+    private final BatchInsertSupport<User> batchInsert;
+
+    public UserRepositoryCustomImpl(JdbcTemplate jdbcTemplate,
+                                    @Value("${app.batch.insert.chunk-size:1000}") int chunkSize) {
+        this.batchInsert = new BatchInsertSupport<>(jdbcTemplate, INSERT_SQL, (statement, user) -> {
+            statement.setString(1, user.getUsername());
+            statement.setString(2, user.getPassword());
+            statement.setString(3, user.getFullname());
+            statement.setString(4, user.getRole());
+        }, User::setId, chunkSize);
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(Collection<User> users) {
+        return batchInsert.insertAll(users);
+    }
+}
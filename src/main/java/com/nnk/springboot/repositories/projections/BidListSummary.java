@@ -0,0 +1,20 @@
+package com.nnk.springboot.repositories.projections;
+
+import com.nnk.springboot.domain.BidList;
+
+/**
+ * Projection d'une {@link BidList} limitée aux colonnes affichées par la liste des soumissions.
+ * <p>
+ * Seules ces colonnes sont sélectionnées en base et le résultat n'est pas une entité :
+ * il n'est ni suivi par le contexte de persistance ni soumis à la détection des modifications.
+ */
+public interface BidListSummary {
+
+    Integer getBidListId();
+
+    String getAccount();
+
+    String getType();
+
+    Double getBidQuantity();
+}
@@ -0,0 +1,20 @@
+package com.nnk.springboot.repositories.projections;
+
+import com.nnk.springboot.domain.Trade;
+
+/**
+ * Projection d'une {@link Trade} limitée aux colonnes affichées par la liste des transactions.
+ * <p>
+ * Seules ces colonnes sont sélectionnées en base et le résultat n'est pas une entité :
+ * il n'est ni suivi par le contexte de persistance ni soumis à la détection des modifications.
+ */
+public interface TradeSummary {
+
+    Integer getTradeId();
+
+    String getAccount();
+
+    String getType();
+
+    Double getBuyQuantity();
+}
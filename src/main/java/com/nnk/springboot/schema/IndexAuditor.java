@@ -0,0 +1,246 @@
+package com.nnk.springboot.schema;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Vérifie au démarrage que les index attendus existent en base.
+ * <p>
+ * Deux sources d'index attendus sont comparées aux index réellement présents ({@link DatabaseMetaData}) :
+ * <ul>
+ *     <li>les index et contraintes d'unicité déclarés sur les entités ({@code @Table(indexes, uniqueConstraints)}) ;</li>
+ *     <li>les colonnes filtrées par les méthodes de requête dérivées des repositories
+ *     ({@code findByUsername}, {@code findByTradeIdGreaterThan...}) : un index doit commencer par ces colonnes.</li>
+ * </ul>
+ * Chaque index manquant est signalé dans les logs ; le démarrage n'est pas interrompu.
+ */
+@Component
+public class IndexAuditor {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexAuditor.class);
+
+    private final DataSource dataSource;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ListableBeanFactory beanFactory;
+
+    @Value("${app.schema.index-audit.enabled:true}")
+    private boolean enabled;
+
+    public IndexAuditor(DataSource dataSource, EntityManagerFactory entityManagerFactory, ListableBeanFactory beanFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.beanFactory = beanFactory;
+    }
+
+    /**
+     * Lance la vérification une fois l'application démarrée.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void auditOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<MissingIndex> missing = findMissingIndexes();
+            if (missing.isEmpty()) {
+                logger.info("Vérification des index : aucun index manquant.");
+            }
+            for (MissingIndex index : missing) {
+                logger.warn("Index manquant sur {}({}) utilisé par {}", index.table(),
+                        String.join(", ", index.columns()), index.usedBy());
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Vérification des index impossible : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recherche les index attendus absents de la base.
+     *
+     * @return Les index manquants, dans l'ordre des entités.
+     * @throws SQLException En cas d'erreur de lecture des métadonnées.
+     */
+    public List<MissingIndex> findMissingIndexes() throws SQLException {
+        List<MissingIndex> expected = expectedIndexes();
+        List<MissingIndex> missing = new ArrayList<>();
+        Map<String, Collection<List<String>>> existing = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (MissingIndex index : expected) {
+                Collection<List<String>> indexes = existing.get(index.table());
+                if (indexes == null) {
+                    indexes = indexesOf(metaData, connection.getCatalog(), index.table());
+                    existing.put(index.table(), indexes);
+                }
+                if (!isCovered(index.columns(), indexes)) {
+                    missing.add(index);
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Index attendus : déclarés sur les entités puis déduits des requêtes dérivées des repositories.
+     * Les colonnes d'un index attendu sont en minuscules.
+     */
+    List<MissingIndex> expectedIndexes() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Repositories repositories = new Repositories(beanFactory);
+        Set<MissingIndex> expected = new LinkedHashSet<>();
+
+        for (Class<?> domainType : repositories) {
+            AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                    .getEntityDescriptor(domainType);
+            String table = persister.getTableName();
+
+            Table mapping = domainType.getAnnotation(Table.class);
+            if (mapping != null) {
+                for (Index index : mapping.indexes()) {
+                    expected.add(new MissingIndex(table, columns(index.columnList().split(",")),
+                            "@Index " + index.name() + " de " + domainType.getSimpleName()));
+                }
+                for (UniqueConstraint constraint : mapping.uniqueConstraints()) {
+                    expected.add(new MissingIndex(table, columns(constraint.columnNames()),
+                            "@UniqueConstraint " + constraint.name() + " de " + domainType.getSimpleName()));
+                }
+            }
+
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                if (method.isAnnotationPresent(Query.class)) {
+                    continue;
+                }
+                List<String> columns = filteredColumns(method, domainType, persister);
+                if (!columns.isEmpty()) {
+                    expected.add(new MissingIndex(table, columns,
+                            information.getRepositoryInterface().getSimpleName() + "." + method.getName()));
+                }
+            }
+        }
+        return new ArrayList<>(expected);
+    }
+
+    /**
+     * Colonnes filtrées par la première alternative d'une requête dérivée, dans l'ordre de la méthode.
+     */
+    private List<String> filteredColumns(Method method, Class<?> domainType, AbstractEntityPersister persister) {
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), domainType);
+        } catch (RuntimeException e) {
+            return List.of();
+        }
+        List<String> columns = new ArrayList<>();
+        for (PartTree.OrPart orPart : tree) {
+            for (Part part : orPart) {
+                String property = part.getProperty().getSegment();
+                String[] names = property.equals(persister.getIdentifierPropertyName())
+                        ? persister.getIdentifierColumnNames()
+                        : persister.getPropertyColumnNames(property);
+                columns.addAll(columns(names));
+            }
+            break;
+        }
+        return columns;
+    }
+
+    /**
+     * Index existants d'une table (clé primaire comprise), chacun sous forme de liste ordonnée de colonnes.
+     */
+    private Collection<List<String>> indexesOf(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        Map<String, Map<Integer, String>> indexes = new HashMap<>();
+        // Selon la base, les noms non quotés sont stockés en majuscules (H2) ou tels quels (MySQL)
+        for (String name : new LinkedHashSet<>(List.of(table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)))) {
+            try (ResultSet rs = metaData.getIndexInfo(catalog, null, name, false, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (indexName != null && column != null) {
+                        indexes.computeIfAbsent(indexName, k -> new TreeMap<>())
+                                .put((int) rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            try (ResultSet rs = metaData.getPrimaryKeys(catalog, null, name)) {
+                while (rs.next()) {
+                    indexes.computeIfAbsent("PRIMARY KEY", k -> new TreeMap<>())
+                            .put((int) rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            if (!indexes.isEmpty()) {
+                break;
+            }
+        }
+        List<List<String>> result = new ArrayList<>();
+        indexes.values().forEach(columns -> result.add(new ArrayList<>(columns.values())));
+        return result;
+    }
+
+    /**
+     * Indique si un des index commence par les colonnes demandées, dans un ordre quelconque.
+     *
+     * @param columns Les colonnes attendues, en minuscules.
+     * @param indexes Les index existants, chacun sous forme de liste ordonnée de colonnes en minuscules.
+     * @return true si un index peut servir la recherche sur ces colonnes.
+     */
+    static boolean isCovered(List<String> columns, Collection<List<String>> indexes) {
+        Set<String> required = new LinkedHashSet<>(columns);
+        for (List<String> index : indexes) {
+            if (index.size() >= required.size()
+                    && new LinkedHashSet<>(index.subList(0, required.size())).equals(required)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> columns(String[] names) {
+        return Arrays.stream(names).map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+
+    /**
+     * Index attendu (ou manquant) sur une table.
+     *
+     * @param table   La table.
+     * @param columns Les colonnes, en minuscules, dans l'ordre attendu.
+     * @param usedBy  La déclaration ou la méthode de repository qui en a besoin.
+     */
+    public record MissingIndex(String table, List<String> columns, String usedBy) {
+    }
+}
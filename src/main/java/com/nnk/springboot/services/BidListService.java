@@ -1,9 +1,13 @@
 package com.nnk.springboot.services;
 
 import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.pagination.KeysetPage;
+import com.nnk.springboot.repositories.projections.BidListSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,9 +32,32 @@ public interface BidListService {
      * Récupère une page de soumissions en fonction des paramètres de pagination.
      *
      * @param pageable Les informations de pagination, y compris la taille de la page et le numéro de page.
-     * @return Une page contenant les entités {@link BidList}.
+     * @return Une tranche contenant les entités {@link BidList} ; une {@link Page} avec son nombre total
+     *         lorsque le mode de pagination configuré fournit un total (exact ou estimé).
      */
-    Page<BidList> findPaginated(Pageable pageable);
+    Slice<BidList> findPaginated(Pageable pageable);
+
+    /**
+     * Récupère une page de soumissions par pagination par clé, sans {@code OFFSET} ni {@code COUNT(*)}.
+     *
+     * @param cursor Le curseur opaque reçu de la page précédente, ou {@code null} pour la première page.
+     * @param size   Le nombre de soumissions par page.
+     * @return Une page contenant les résumés {@link BidListSummary} (colonnes de la liste seulement) et les curseurs de navigation.
+     */
+    KeysetPage<BidListSummary> findByCursor(String cursor, int size);
+
+    /**
+     * Met à jour une soumission existante avec les champs modifiables du formulaire ({@code account}, {@code type}, {@code bidQuantity}).
+     * <p>
+     * Les valeurs sont copiées sur l'entité chargée : seules les colonnes réellement modifiées sont
+     * écrites, et aucune requête {@code UPDATE} n'est émise si rien n'a changé. Les autres colonnes
+     * (dates et auteurs de création, etc.) sont conservées.
+     *
+     * @param id   L'identifiant de la soumission.
+     * @param form Les valeurs saisies dans le formulaire.
+     * @return L'entité mise à jour, ou {@code null} si elle n'existe pas.
+     */
+    BidList update(Integer id, BidList form);
 
     /**
      * Recherche une soumission par son identifiant.
@@ -49,6 +76,14 @@ public interface BidListService {
      */
     BidList insert(BidList bidList);
 
+    /**
+     * Insère un ensemble de soumissions par lots JDBC, en une seule transaction.
+     *
+     * @param bidLists Les entités {@link BidList} à insérer ; leurs identifiants générés leur sont affectés.
+     * @return Le nombre de soumissions insérées.
+     */
+    int insertAll(Collection<BidList> bidLists);
+
     /**
      * Supprime une soumission existante de la base de données.
      *
@@ -56,6 +91,30 @@ public interface BidListService {
      */
     void delete(BidList bidList);
 
+    /**
+     * Supprime une soumission par son identifiant, en une seule requête {@code DELETE} (sans lecture préalable).
+     *
+     * @param id L'identifiant de la soumission.
+     * @return {@code true} si une soumission a été supprimée, {@code false} si aucune n'existait avec cet identifiant.
+     */
+    boolean deleteById(int id);
+
+    /**
+     * Supprime plusieurs soumissions en une seule requête {@code DELETE}.
+     *
+     * @param ids Les identifiants des soumissions à supprimer.
+     * @return Le nombre de soumissions supprimées.
+     */
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * Récupère plusieurs soumissions en une seule requête, triées par identifiant.
+     *
+     * @param ids Les identifiants des soumissions.
+     * @return Les soumissions trouvées ; les identifiants inconnus sont ignorés.
+     */
+    List<BidList> findByIds(Collection<Integer> ids);
+
     /**
      * Vérifie si une soumission existe par son identifiant.
      *
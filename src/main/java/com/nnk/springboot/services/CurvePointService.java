@@ -3,7 +3,9 @@ package com.nnk.springboot.services;
 import com.nnk.springboot.domain.CurvePoint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,9 +30,10 @@ public interface CurvePointService {
      * Récupère une page de points de courbe en fonction des paramètres de pagination.
      *
      * @param pageable Les informations de pagination, y compris la taille de la page et le numéro de page.
-     * @return Une page contenant les entités {@link CurvePoint}.
+     * @return Une tranche contenant les entités {@link CurvePoint} ; une {@link Page} avec son nombre total
+     *         lorsque le mode de pagination configuré fournit un total (exact ou estimé).
      */
-    Page<CurvePoint> findPaginated(Pageable pageable);
+    Slice<CurvePoint> findPaginated(Pageable pageable);
 
     /**
      * Insère un nouveau point de courbe dans la base de données.
@@ -47,6 +50,43 @@ public interface CurvePointService {
      */
     void delete(CurvePoint curvePoint);
 
+    /**
+     * Supprime un point de courbe par son identifiant, en une seule requête {@code DELETE} (sans lecture préalable).
+     *
+     * @param id L'identifiant du point de courbe.
+     * @return {@code true} si un point de courbe a été supprimé, {@code false} si aucun n'existait avec cet identifiant.
+     */
+    boolean deleteById(int id);
+
+    /**
+     * Supprime plusieurs points de courbe en une seule requête {@code DELETE}.
+     *
+     * @param ids Les identifiants des points de courbe à supprimer.
+     * @return Le nombre de points de courbe supprimés.
+     */
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * Récupère plusieurs points de courbe en une seule requête, triés par identifiant.
+     *
+     * @param ids Les identifiants des points de courbe.
+     * @return Les points de courbe trouvés ; les identifiants inconnus sont ignorés.
+     */
+    List<CurvePoint> findByIds(Collection<Integer> ids);
+
+    /**
+     * Met à jour un point de courbe existant avec les champs modifiables du formulaire ({@code term}, {@code value}).
+     * <p>
+     * Les valeurs sont copiées sur l'entité chargée : seules les colonnes réellement modifiées sont
+     * écrites, et aucune requête {@code UPDATE} n'est émise si rien n'a changé. Les autres colonnes
+     * (dates et auteurs de création, etc.) sont conservées.
+     *
+     * @param id   L'identifiant du point de courbe.
+     * @param form Les valeurs saisies dans le formulaire.
+     * @return L'entité mise à jour, ou {@code null} si elle n'existe pas.
+     */
+    CurvePoint update(Integer id, CurvePoint form);
+
     /**
      * Recherche un point de courbe par son identifiant.
      *
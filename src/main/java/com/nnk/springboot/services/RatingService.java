@@ -3,7 +3,9 @@ package com.nnk.springboot.services;
 import com.nnk.springboot.domain.Rating;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,9 +30,10 @@ public interface RatingService {
      * Récupère une page de notations en fonction des paramètres de pagination.
      *
      * @param pageable Les informations de pagination, y compris la taille de la page et le numéro de page.
-     * @return Une page contenant les entités {@link Rating}.
+     * @return Une tranche contenant les entités {@link Rating} ; une {@link Page} avec son nombre total
+     *         lorsque le mode de pagination configuré fournit un total (exact ou estimé).
      */
-    Page<Rating> findPaginated(Pageable pageable);
+    Slice<Rating> findPaginated(Pageable pageable);
 
     /**
      * Insère une nouvelle notation dans la base de données.
@@ -47,6 +50,30 @@ public interface RatingService {
      */
     void delete(Rating rating);
 
+    /**
+     * Supprime une notation par son identifiant, en une seule requête {@code DELETE} (sans lecture préalable).
+     *
+     * @param id L'identifiant de la notation.
+     * @return {@code true} si une notation a été supprimée, {@code false} si aucune n'existait avec cet identifiant.
+     */
+    boolean deleteById(int id);
+
+    /**
+     * Supprime plusieurs notations en une seule requête {@code DELETE}.
+     *
+     * @param ids Les identifiants des notations à supprimer.
+     * @return Le nombre de notations supprimées.
+     */
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * Récupère plusieurs notations en une seule requête, triées par identifiant.
+     *
+     * @param ids Les identifiants des notations.
+     * @return Les notations trouvées ; les identifiants inconnus sont ignorés.
+     */
+    List<Rating> findByIds(Collection<Integer> ids);
+
     /**
      * Recherche une notation par son identifiant.
      *
@@ -3,7 +3,9 @@ package com.nnk.springboot.services;
 import com.nnk.springboot.domain.RuleName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,9 +30,10 @@ public interface RuleNameService {
      * Récupère une page de règles métier en fonction des paramètres de pagination.
      *
      * @param pageable Les informations de pagination, y compris la taille de la page et le numéro de page.
-     * @return Une page contenant les entités {@link RuleName}.
+     * @return Une tranche contenant les entités {@link RuleName} ; une {@link Page} avec son nombre total
+     *         lorsque le mode de pagination configuré fournit un total (exact ou estimé).
      */
-    Page<RuleName> findPaginated(Pageable pageable);
+    Slice<RuleName> findPaginated(Pageable pageable);
 
     /**
      * Insère une nouvelle règle métier dans la base de données.
@@ -47,6 +50,30 @@ public interface RuleNameService {
      */
     void delete(RuleName ruleName);
 
+    /**
+     * Supprime une règle de nom par son identifiant, en une seule requête {@code DELETE} (sans lecture préalable).
+     *
+     * @param id L'identifiant de la règle de nom.
+     * @return {@code true} si une règle de nom a été supprimée, {@code false} si aucune n'existait avec cet identifiant.
+     */
+    boolean deleteById(int id);
+
+    /**
+     * Supprime plusieurs règles de nom en une seule requête {@code DELETE}.
+     *
+     * @param ids Les identifiants des règles de nom à supprimer.
+     * @return Le nombre de règles de nom supprimées.
+     */
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * Récupère plusieurs règles de nom en une seule requête, triées par identifiant.
+     *
+     * @param ids Les identifiants des règles de nom.
+     * @return Les règles de nom trouvées ; les identifiants inconnus sont ignorés.
+     */
+    List<RuleName> findByIds(Collection<Integer> ids);
+
     /**
      * Recherche une règle métier par son identifiant.
      *
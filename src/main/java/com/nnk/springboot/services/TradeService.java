@@ -1,10 +1,19 @@
 package com.nnk.springboot.services;
 
 import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.dto.ExportFormat;
+import com.nnk.springboot.dto.ImportReport;
+import com.nnk.springboot.pagination.KeysetPage;
+import com.nnk.springboot.repositories.projections.TradeSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import jakarta.transaction.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,9 +38,19 @@ public interface TradeService {
      * Récupère une page de transactions en fonction des paramètres de pagination.
      *
      * @param pageable Les informations de pagination, y compris la taille de la page et le numéro de page.
-     * @return Une page contenant les entités {@link Trade}.
+     * @return Une tranche contenant les entités {@link Trade} ; une {@link Page} avec son nombre total
+     *         lorsque le mode de pagination configuré fournit un total (exact ou estimé).
      */
-    Page<Trade> findPaginated(Pageable pageable);
+    Slice<Trade> findPaginated(Pageable pageable);
+
+    /**
+     * Récupère une page de transactions par pagination par clé, sans {@code OFFSET} ni {@code COUNT(*)}.
+     *
+     * @param cursor Le curseur opaque reçu de la page précédente, ou {@code null} pour la première page.
+     * @param size   Le nombre de transactions par page.
+     * @return Une page contenant les résumés {@link TradeSummary} (colonnes de la liste seulement) et les curseurs de navigation.
+     */
+    KeysetPage<TradeSummary> findByCursor(String cursor, int size);
 
     /**
      * Insère une nouvelle transaction dans la base de données.
@@ -41,6 +60,30 @@ public interface TradeService {
      */
     Trade insert(Trade trade);
 
+    /**
+     * Importe en masse des transactions depuis un fichier CSV lu en flux.
+     * <p>
+     * La première ligne est l'en-tête (noms des propriétés de {@link Trade}, casse et tirets bas
+     * indifférents). Chaque ligne est validée avec les contraintes de l'entité ; les lignes valides
+     * sont enregistrées par lots de taille fixe, chaque lot dans sa propre transaction, et les lignes
+     * invalides sont rapportées sans interrompre l'import.
+     *
+     * @param reader Le contenu CSV.
+     * @return Le compte rendu de l'import.
+     */
+    ImportReport importCsv(Reader reader);
+
+    /**
+     * Exporte toutes les transactions dans le format demandé, en flux et à mémoire constante :
+     * les lignes sont écrites au fur et à mesure de leur lecture en base.
+     *
+     * @param format Le format d'export.
+     * @param out    Le flux de destination ; il n'est pas fermé.
+     * @return Le nombre de transactions exportées.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    long exportTrades(ExportFormat format, OutputStream out) throws IOException;
+
     /**
      * Supprime une transaction existante de la base de données.
      * <p>
@@ -52,6 +95,43 @@ public interface TradeService {
     @Transactional
     void delete(Trade trade);
 
+    /**
+     * Supprime une transaction par son identifiant, en une seule requête {@code DELETE} (sans lecture préalable).
+     *
+     * @param id L'identifiant de la transaction.
+     * @return {@code true} si une transaction a été supprimée, {@code false} si aucune n'existait avec cet identifiant.
+     */
+    boolean deleteById(int id);
+
+    /**
+     * Supprime plusieurs transactions en une seule requête {@code DELETE}.
+     *
+     * @param ids Les identifiants des transactions à supprimer.
+     * @return Le nombre de transactions supprimées.
+     */
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * Récupère plusieurs transactions en une seule requête, triées par identifiant.
+     *
+     * @param ids Les identifiants des transactions.
+     * @return Les transactions trouvées ; les identifiants inconnus sont ignorés.
+     */
+    List<Trade> findByIds(Collection<Integer> ids);
+
+    /**
+     * Met à jour une transaction existante avec les champs modifiables du formulaire ({@code account}, {@code type}, {@code buyQuantity}).
+     * <p>
+     * Les valeurs sont copiées sur l'entité chargée : seules les colonnes réellement modifiées sont
+     * écrites, et aucune requête {@code UPDATE} n'est émise si rien n'a changé. Les autres colonnes
+     * (dates et auteurs de création, etc.) sont conservées.
+     *
+     * @param id   L'identifiant de la transaction.
+     * @param form Les valeurs saisies dans le formulaire.
+     * @return L'entité mise à jour, ou {@code null} si elle n'existe pas.
+     */
+    Trade update(Integer id, Trade form);
+
     /**
      * Recherche une transaction par son identifiant.
      *
@@ -4,8 +4,11 @@ import com.nnk.springboot.domain.User;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface pour la gestion des opérations métier liées aux utilisateurs ({@link User}).
@@ -28,9 +31,10 @@ public interface UserService {
      * Récupère une page d'utilisateurs en fonction des paramètres de pagination.
      *
      * @param pageable Les informations de pagination, y compris la taille de la page et le numéro de page.
-     * @return Une page contenant les entités {@link User}.
+     * @return Une tranche contenant les entités {@link User} ; une {@link Page} avec son nombre total
+     *         lorsque le mode de pagination configuré fournit un total (exact ou estimé).
      */
-    Page<User> findPaginated(Pageable pageable);
+    Slice<User> findPaginated(Pageable pageable);
 
     /**
      * Insère un nouvel utilisateur dans la base de données.
@@ -40,6 +44,35 @@ public interface UserService {
      */
     User insert(User user);
 
+    /**
+     * Insère un nouvel utilisateur sans bloquer l'appelant : le mot de passe est haché sur l'exécuteur
+     * de hachage, puis l'utilisateur est enregistré dans sa propre transaction.
+     *
+     * @param user L'entité {@link User} à insérer.
+     * @return L'entité insérée ; en échec {@link java.util.concurrent.RejectedExecutionException} si la
+     *         file de hachage est pleine.
+     */
+    CompletableFuture<User> insertAsync(User user);
+
+    /**
+     * Insère un ensemble d'utilisateurs par lots JDBC, en une seule transaction.
+     * <p>
+     * Les mots de passe fournis en clair sont encodés avant l'insertion.
+     *
+     * @param users Les entités {@link User} à insérer ; leurs identifiants générés leur sont affectés.
+     * @return Le nombre d'utilisateurs insérés.
+     */
+    int insertAll(Collection<User> users);
+
+    /**
+     * Variante asynchrone de {@link #insertAll(Collection)}, pour le provisionnement en masse : les
+     * mots de passe sont hachés en parallèle sur l'exécuteur de hachage.
+     *
+     * @param users Les entités {@link User} à insérer.
+     * @return Le nombre d'utilisateurs insérés.
+     */
+    CompletableFuture<Integer> insertAllAsync(Collection<User> users);
+
     /**
      * Mise à jour d'un utilisateur dans la base de données.
      *
@@ -48,6 +81,25 @@ public interface UserService {
      */
     public User update(User user);
 
+    /**
+     * Variante asynchrone de {@link #update(User)} : le mot de passe est haché sur l'exécuteur de
+     * hachage, puis l'utilisateur est enregistré dans sa propre transaction.
+     *
+     * @param user L'entité {@link User} à mettre à jour.
+     * @return L'entité mise à jour.
+     */
+    CompletableFuture<User> updateAsync(User user);
+
+    /**
+     * Remplace le mot de passe d'un utilisateur par un mot de passe déjà encodé (réencodage à un coût
+     * plus élevé lors de la connexion).
+     *
+     * @param username        Le nom d'utilisateur.
+     * @param encodedPassword Le mot de passe encodé.
+     * @return {@code true} si l'utilisateur existe et a été modifié.
+     */
+    boolean updateEncodedPassword(String username, String encodedPassword);
+
     /**
      * Récupère la liste de tous les utilisateurs.
      *
@@ -66,6 +118,30 @@ public interface UserService {
     @Transactional
     void delete(User user);
 
+    /**
+     * Supprime un utilisateur par son identifiant, en une seule requête {@code DELETE} (sans lecture préalable).
+     *
+     * @param id L'identifiant de l'utilisateur.
+     * @return {@code true} si un utilisateur a été supprimé, {@code false} si aucun n'existait avec cet identifiant.
+     */
+    boolean deleteById(int id);
+
+    /**
+     * Supprime plusieurs utilisateurs en une seule requête {@code DELETE}.
+     *
+     * @param ids Les identifiants des utilisateurs à supprimer.
+     * @return Le nombre de utilisateurs supprimés.
+     */
+    int deleteByIds(Collection<Integer> ids);
+
+    /**
+     * Récupère plusieurs utilisateurs en une seule requête, triés par identifiant.
+     *
+     * @param ids Les identifiants des utilisateurs.
+     * @return Les utilisateurs trouvés ; les identifiants inconnus sont ignorés.
+     */
+    List<User> findByIds(Collection<Integer> ids);
+
     /**
      * Recherche un utilisateur par son identifiant unique.
      *
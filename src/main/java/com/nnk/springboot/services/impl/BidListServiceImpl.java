@@ -1,15 +1,22 @@
 package com.nnk.springboot.services.impl;
 
 import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.pagination.Cursor;
+import com.nnk.springboot.pagination.KeysetPage;
+import com.nnk.springboot.pagination.Paginator;
+import com.nnk.springboot.repositories.projections.BidListSummary;
 import com.nnk.springboot.repositories.BidListRepository;
 import com.nnk.springboot.services.BidListService;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -31,13 +38,16 @@ public class BidListServiceImpl implements BidListService {
 
     private final BidListRepository bidListRepository;
 
+    private final Paginator paginator;
+
     /**
      * Constructeur du service BidListServiceImpl.
      *
      * @param bidListRepository le repository utilisé pour effectuer des opérations sur les données des soumissions.
      */
-    public BidListServiceImpl(BidListRepository bidListRepository) {
+    public BidListServiceImpl(BidListRepository bidListRepository, Paginator paginator) {
         this.bidListRepository = bidListRepository;
+        this.paginator = paginator;
     }
 
     /**
@@ -45,6 +55,7 @@ public class BidListServiceImpl implements BidListService {
      *
      * @return une liste contenant toutes les instances de {@link BidList}.
      */
+    @Transactional(readOnly = true)
     @Override
     public List<BidList> findAll() {
         logger.info("Recherche de toutes les soumissions.");
@@ -55,12 +66,54 @@ public class BidListServiceImpl implements BidListService {
      * Récupère une page paginée de soumissions.
      *
      * @param pageable l'objet définissant la pagination (page actuelle, taille de la page, etc.).
-     * @return une page contenant les instances de {@link BidList}.
+     * @return une tranche (ou une page selon le mode de pagination) contenant les instances de {@link BidList}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<BidList> findPaginated(Pageable pageable) {
+    public Slice<BidList> findPaginated(Pageable pageable) {
         logger.info("Recherche de toutes les soumissions par page.");
-        return bidListRepository.findAll(pageable);
+        return paginator.paginate(BidList.class, pageable, bidListRepository::findAllBy, bidListRepository::findAll, bidListRepository::count);
+    }
+
+    /**
+     * Récupère une page de soumissions par pagination par clé sur l'identifiant.
+     *
+     * @param cursor le curseur opaque de la page précédente, ou {@code null} pour la première page.
+     * @param size   le nombre de soumissions par page.
+     * @return une page contenant les résumés {@link BidListSummary}, lus en lecture seule, et les curseurs de navigation.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<BidListSummary> findByCursor(String cursor, int size) {
+        logger.info("Recherche des soumissions par curseur.");
+        return KeysetPage.fetch(Cursor.decode(cursor), size,
+                bidListRepository::findByBidListIdGreaterThanOrderByBidListIdAsc,
+                bidListRepository::findByBidListIdLessThanOrderByBidListIdDesc,
+                BidListSummary::getBidListId);
+    }
+
+    /**
+     * Met à jour une soumission à partir des champs modifiables du formulaire.
+     * L'entité chargée est modifiée sans appel à {@code save} : à la validation de la transaction,
+     * la détection des modifications n'écrit que les colonnes changées ({@code @DynamicUpdate}),
+     * et n'émet aucun {@code UPDATE} si les valeurs sont identiques.
+     * @param id L'identifiant de la soumission.
+     * @param form Les valeurs saisies.
+     * @return L'entité mise à jour, ou null si elle n'existe pas.
+     */
+    @Override
+    @Transactional
+    public BidList update(Integer id, BidList form) {
+        BidList bidList = bidListRepository.findById(id).orElse(null);
+        if (bidList == null) {
+            logger.warn("Aucune soumission avec l'ID {} à mettre à jour", id);
+            return null;
+        }
+        logger.info("Mise à jour de la soumission avec l'ID : {}", id);
+        bidList.setAccount(form.getAccount());
+        bidList.setType(form.getType());
+        bidList.setBidQuantity(form.getBidQuantity());
+        return bidList;
     }
 
     /**
@@ -70,6 +123,7 @@ public class BidListServiceImpl implements BidListService {
      * @return l'objet {@link BidList} correspondant à l'identifiant.
      * @throws IllegalArgumentException si aucune soumission n'est trouvée pour l'identifiant donné.
      */
+    @Transactional(readOnly = true)
     @Override
     public BidList findBidList(Integer id) {
         logger.info("Recherche de la soumission avec l'ID : {}", id);
@@ -94,6 +148,19 @@ public class BidListServiceImpl implements BidListService {
         return bidListRepository.save(bidList);
     }
 
+    /**
+     * Insère un ensemble de soumissions par lots JDBC.
+     *
+     * @param bidLists les objets {@link BidList} à insérer.
+     * @return le nombre de soumissions insérées.
+     */
+    @Transactional
+    @Override
+    public int insertAll(Collection<BidList> bidLists) {
+        logger.info("Insertion en masse de {} soumissions", bidLists.size());
+        return bidListRepository.insertAll(bidLists);
+    }
+
     /**
      * Supprime une soumission existante de la base de données.
      *
@@ -102,8 +169,34 @@ public class BidListServiceImpl implements BidListService {
     @Transactional
     @Override
     public void delete(BidList bidList) {
-        logger.info("Suppression de la soumission avec l'ID : {}", bidList.getBidListDate());
-        bidListRepository.deleteById(bidList.getBidListId());
+        deleteById(bidList.getBidListId());
+    }
+
+    /**
+     * Supprime une soumission par son identifiant, en une seule requête.
+     * @param id L'identifiant de la soumission.
+     * @return true si une soumission a été supprimée.
+     */
+    @Override
+    public boolean deleteById(int id) {
+        logger.info("Suppression de la soumission avec l'ID : {}", id);
+        boolean deleted = bidListRepository.deleteRowById(id) > 0;
+        return deleted;
+    }
+
+    /**
+     * Supprime plusieurs soumissions en une seule requête.
+     * @param ids Les identifiants des soumissions.
+     * @return Le nombre de soumissions supprimées.
+     */
+    @Override
+    public int deleteByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Suppression de {} soumissions : {}", ids.size(), ids);
+        int deleted = bidListRepository.deleteRowsByIdIn(ids);
+        return deleted;
     }
 
     /**
@@ -112,9 +205,27 @@ public class BidListServiceImpl implements BidListService {
      * @param id l'identifiant unique de la soumission.
      * @return {@code true} si la soumission existe, sinon {@code false}.
      */
+    @Transactional(readOnly = true)
     @Override
     public boolean existsById(int id) {
         logger.info("Vérification de l'existence de la soumission avec l'ID : {}", id);
         return bidListRepository.existsById(id);
     }
+
+    /**
+     * Récupère plusieurs soumissions par leurs identifiants, triées par identifiant.
+     * @param ids Les identifiants des soumissions.
+     * @return Les soumissions trouvées ; les identifiants inconnus sont ignorés.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<BidList> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Recherche de {} soumissions par identifiant", ids.size());
+        List<BidList> bidLists = new ArrayList<>(bidListRepository.findAllById(ids));
+        bidLists.sort(Comparator.comparing(BidList::getBidListId));
+        return bidLists;
+    }
 }
@@ -2,15 +2,20 @@ package com.nnk.springboot.services.impl;
 
 import com.nnk.springboot.domain.BidList;
 import com.nnk.springboot.domain.CurvePoint;
+import com.nnk.springboot.pagination.PageCache;
+import com.nnk.springboot.pagination.Paginator;
 import com.nnk.springboot.repositories.CurvePointRepository;
 import com.nnk.springboot.services.CurvePointService;
-import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -24,14 +29,21 @@ public class CurvePointServiceImpl implements CurvePointService {
 
     private final CurvePointRepository curvePointRepository;
 
-    public CurvePointServiceImpl(CurvePointRepository curvePointRepository) {
+    private final Paginator paginator;
+
+    private final PageCache pageCache;
+
+    public CurvePointServiceImpl(CurvePointRepository curvePointRepository, Paginator paginator, PageCache pageCache) {
         this.curvePointRepository = curvePointRepository;
+        this.paginator = paginator;
+        this.pageCache = pageCache;
     }
 
     /**
      * Récupère tous les points de courbe.
      * @return la liste des points de courbe.
      */
+    @Transactional(readOnly = true)
     @Override
     public List<CurvePoint> findAllCurvePoints() {
         logger.info("Récupération de tous les points de courbe");
@@ -42,14 +54,17 @@ public class CurvePointServiceImpl implements CurvePointService {
 
     /**
      * Récupère une page paginée de soumissions.
+     * La page est servie par le {@link PageCache} tant qu'aucune écriture n'a invalidé ce type d'entité.
      *
      * @param pageable l'objet définissant la pagination (page actuelle, taille de la page, etc.).
-     * @return une page contenant les instances de {@link CurvePoint}.
+     * @return une tranche (ou une page selon le mode de pagination) contenant les instances de {@link CurvePoint}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<CurvePoint> findPaginated(Pageable pageable) {
+    public Slice<CurvePoint> findPaginated(Pageable pageable) {
         logger.info("Récupération de tous les points de courbe par page");
-        return curvePointRepository.findAll(pageable);
+        return pageCache.get(CurvePoint.class, pageable,
+                () -> paginator.paginate(CurvePoint.class, pageable, curvePointRepository::findAllBy, curvePointRepository::findAll, curvePointRepository::count));
     }
 
 
@@ -62,7 +77,9 @@ public class CurvePointServiceImpl implements CurvePointService {
     @Override
     public CurvePoint insert(CurvePoint curvePoint) {
         logger.info("Insertion du point de courbe : {}", curvePoint);
-        return curvePointRepository.save(curvePoint);
+        CurvePoint saved = curvePointRepository.save(curvePoint);
+        pageCache.invalidate(CurvePoint.class);
+        return saved;
     }
 
     /**
@@ -72,8 +89,64 @@ public class CurvePointServiceImpl implements CurvePointService {
     @Transactional
     @Override
     public void delete(CurvePoint curvePoint){
-        logger.info("Suppression du point de courbe avec l'ID : {}", curvePoint.getId());
-        curvePointRepository.deleteById(curvePoint.getId());
+        deleteById(curvePoint.getId());
+    }
+
+    /**
+     * Supprime un point de courbe par son identifiant, en une seule requête.
+     * @param id L'identifiant du point de courbe.
+     * @return true si un point de courbe a été supprimé.
+     */
+    @Override
+    public boolean deleteById(int id) {
+        logger.info("Suppression du point de courbe avec l'ID : {}", id);
+        boolean deleted = curvePointRepository.deleteRowById(id) > 0;
+        pageCache.invalidate(CurvePoint.class);
+        return deleted;
+    }
+
+    /**
+     * Supprime plusieurs points de courbe en une seule requête.
+     * @param ids Les identifiants des points de courbe.
+     * @return Le nombre de points de courbe supprimés.
+     */
+    @Override
+    public int deleteByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Suppression de {} points de courbe : {}", ids.size(), ids);
+        int deleted = curvePointRepository.deleteRowsByIdIn(ids);
+        pageCache.invalidate(CurvePoint.class);
+        return deleted;
+    }
+
+    /**
+     * Met à jour un point de courbe à partir des champs modifiables du formulaire.
+     * L'entité chargée est modifiée sans appel à {@code save} : à la validation de la transaction,
+     * la détection des modifications n'écrit que les colonnes changées ({@code @DynamicUpdate}),
+     * et n'émet aucun {@code UPDATE} si les valeurs sont identiques.
+     * @param id L'identifiant du point de courbe.
+     * @param form Les valeurs saisies.
+     * @return L'entité mise à jour, ou null si elle n'existe pas.
+     */
+    @Override
+    @Transactional
+    public CurvePoint update(Integer id, CurvePoint form) {
+        CurvePoint curvePoint = curvePointRepository.findById(id).orElse(null);
+        if (curvePoint == null) {
+            logger.warn("Aucun point de courbe avec l'ID {} à mettre à jour", id);
+            return null;
+        }
+        logger.info("Mise à jour du point de courbe avec l'ID : {}", id);
+        boolean changed = Double.compare(curvePoint.getTerm(), form.getTerm()) != 0
+                || Double.compare(curvePoint.getValue(), form.getValue()) != 0;
+        curvePoint.setTerm(form.getTerm());
+        curvePoint.setValue(form.getValue());
+        if (changed) {
+            pageCache.invalidate(CurvePoint.class);
+        }
+        return curvePoint;
     }
 
     /**
@@ -81,6 +154,7 @@ public class CurvePointServiceImpl implements CurvePointService {
      * @param id L'ID du point de courbe.
      * @return Le point de courbe trouvé ou null si non trouvé.
      */
+    @Transactional(readOnly = true)
     @Override
     public CurvePoint findCurvePoint(Integer id){
         logger.info("Recherche du point de courbe avec l'ID : {}", id);
@@ -92,9 +166,27 @@ public class CurvePointServiceImpl implements CurvePointService {
      * @param id L'ID du point de courbe.
      * @return true si le point de courbe existe, false sinon.
      */
+    @Transactional(readOnly = true)
     @Override
     public boolean existsById(int id) {
         logger.info("Vérification de l'existence du point de courbe avec l'ID : {}", id);
         return curvePointRepository.existsById(id);
     }
+
+    /**
+     * Récupère plusieurs points de courbe par leurs identifiants, triés par identifiant.
+     * @param ids Les identifiants des points de courbe.
+     * @return Les points de courbe trouvés ; les identifiants inconnus sont ignorés.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<CurvePoint> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Recherche de {} points de courbe par identifiant", ids.size());
+        List<CurvePoint> curvePoints = new ArrayList<>(curvePointRepository.findAllById(ids));
+        curvePoints.sort(Comparator.comparing(CurvePoint::getId));
+        return curvePoints;
+    }
 }
@@ -2,14 +2,21 @@ package com.nnk.springboot.services.impl;
 
 import com.nnk.springboot.domain.CurvePoint;
 import com.nnk.springboot.domain.Rating;
+import com.nnk.springboot.pagination.PageCache;
+import com.nnk.springboot.pagination.Paginator;
 import com.nnk.springboot.repositories.RatingRepository;
 import com.nnk.springboot.services.RatingService;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -23,14 +30,24 @@ public class RatingServiceImpl implements RatingService {
 
     private final RatingRepository ratingRepository;
 
-    public RatingServiceImpl(RatingRepository ratingRepository) {
+    private final Paginator paginator;
+
+    private final PageCache pageCache;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public RatingServiceImpl(RatingRepository ratingRepository, Paginator paginator, EntityManagerFactory entityManagerFactory, PageCache pageCache) {
         this.ratingRepository = ratingRepository;
+        this.paginator = paginator;
+        this.entityManagerFactory = entityManagerFactory;
+        this.pageCache = pageCache;
     }
 
     /**
      * Récupère toutes les notations.
      * @return la liste des notations.
      */
+    @Transactional(readOnly = true)
     public List<Rating> findAllRating(){
         logger.info("Récupération de toutes les notations");
         return ratingRepository.findAll();
@@ -40,14 +57,17 @@ public class RatingServiceImpl implements RatingService {
 
     /**
      * Récupère une page paginée de soumissions.
+     * La page est servie par le {@link PageCache} tant qu'aucune écriture n'a invalidé ce type d'entité.
      *
      * @param pageable l'objet définissant la pagination (page actuelle, taille de la page, etc.).
-     * @return une page contenant les instances de {@link Rating}.
+     * @return une tranche (ou une page selon le mode de pagination) contenant les instances de {@link Rating}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<Rating> findPaginated(Pageable pageable) {
+    public Slice<Rating> findPaginated(Pageable pageable) {
         logger.info("Récupération de toutes les notations par page");
-        return ratingRepository.findAll(pageable);
+        return pageCache.get(Rating.class, pageable,
+                () -> paginator.paginate(Rating.class, pageable, ratingRepository::findAllBy, ratingRepository::findAll, ratingRepository::count));
     }
 
 
@@ -58,7 +78,11 @@ public class RatingServiceImpl implements RatingService {
      */
     public Rating insert(Rating rating){
         logger.info("Insertion de la notation : {}", rating);
-        return ratingRepository.save(rating);
+        Rating saved = ratingRepository.save(rating);
+        // L'entrée en cache est retirée : la prochaine lecture recharge l'état enregistré
+        entityManagerFactory.getCache().evict(Rating.class, saved.getId());
+        pageCache.invalidate(Rating.class);
+        return saved;
     }
 
     /**
@@ -66,8 +90,38 @@ public class RatingServiceImpl implements RatingService {
      * @param rating La notation à supprimer.
      */
     public void delete(Rating rating){
-        logger.info("Suppression de la notation avec l'ID : {}", rating.getId());
-        ratingRepository.deleteById(rating.getId());
+        deleteById(rating.getId());
+    }
+
+    /**
+     * Supprime une notation par son identifiant, en une seule requête.
+     * @param id L'identifiant de la notation.
+     * @return true si une notation a été supprimée.
+     */
+    @Override
+    public boolean deleteById(int id) {
+        logger.info("Suppression de la notation avec l'ID : {}", id);
+        boolean deleted = ratingRepository.deleteRowById(id) > 0;
+        pageCache.invalidate(Rating.class);
+        entityManagerFactory.getCache().evict(Rating.class, id);
+        return deleted;
+    }
+
+    /**
+     * Supprime plusieurs notations en une seule requête.
+     * @param ids Les identifiants des notations.
+     * @return Le nombre de notations supprimées.
+     */
+    @Override
+    public int deleteByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Suppression de {} notations : {}", ids.size(), ids);
+        int deleted = ratingRepository.deleteRowsByIdIn(ids);
+        pageCache.invalidate(Rating.class);
+        ids.forEach(id -> entityManagerFactory.getCache().evict(Rating.class, id));
+        return deleted;
     }
 
     /**
@@ -75,6 +129,7 @@ public class RatingServiceImpl implements RatingService {
      * @param id L'ID de la notation.
      * @return La notation trouvée ou null si non trouvée.
      */
+    @Transactional(readOnly = true)
     public Rating findRating(Integer id){
         logger.info("Recherche de la notation avec l'ID : {}", id);
         return ratingRepository.findById(id).orElse(null);
@@ -85,9 +140,27 @@ public class RatingServiceImpl implements RatingService {
      * @param id L'ID de la notation.
      * @return true si la notation existe, false sinon.
      */
+    @Transactional(readOnly = true)
     @Override
     public boolean existsById(int id) {
         logger.info("Vérification de l'existence de la notation avec l'ID : {}", id);
         return ratingRepository.existsById(id);
     }
+
+    /**
+     * Récupère plusieurs notations par leurs identifiants, triées par identifiant.
+     * @param ids Les identifiants des notations.
+     * @return Les notations trouvées ; les identifiants inconnus sont ignorés.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<Rating> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Recherche de {} notations par identifiant", ids.size());
+        List<Rating> ratings = new ArrayList<>(ratingRepository.findAllById(ids));
+        ratings.sort(Comparator.comparing(Rating::getId));
+        return ratings;
+    }
 }
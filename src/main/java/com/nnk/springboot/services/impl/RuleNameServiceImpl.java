@@ -2,14 +2,21 @@ package com.nnk.springboot.services.impl;
 
 import com.nnk.springboot.domain.Rating;
 import com.nnk.springboot.domain.RuleName;
+import com.nnk.springboot.pagination.PageCache;
+import com.nnk.springboot.pagination.Paginator;
 import com.nnk.springboot.repositories.RuleNameRepository;
 import com.nnk.springboot.services.RuleNameService;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -23,14 +30,24 @@ public class RuleNameServiceImpl implements RuleNameService {
 
     private final RuleNameRepository ruleNameRepository;
 
-    public RuleNameServiceImpl(RuleNameRepository ruleNameRepository) {
+    private final Paginator paginator;
+
+    private final PageCache pageCache;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public RuleNameServiceImpl(RuleNameRepository ruleNameRepository, Paginator paginator, EntityManagerFactory entityManagerFactory, PageCache pageCache) {
         this.ruleNameRepository = ruleNameRepository;
+        this.paginator = paginator;
+        this.entityManagerFactory = entityManagerFactory;
+        this.pageCache = pageCache;
     }
 
     /**
      * Récupère toutes les règles de nom.
      * @return la liste des règles de nom.
      */
+    @Transactional(readOnly = true)
     public List<RuleName> findAllRuleNames() {
         logger.info("Récupération de toutes les règles de nom");
         return ruleNameRepository.findAll();
@@ -39,14 +56,17 @@ public class RuleNameServiceImpl implements RuleNameService {
 
     /**
      * Récupère une page paginée de soumissions.
+     * La page est servie par le {@link PageCache} tant qu'aucune écriture n'a invalidé ce type d'entité.
      *
      * @param pageable l'objet définissant la pagination (page actuelle, taille de la page, etc.).
-     * @return une page contenant les instances de {@link RuleName}.
+     * @return une tranche (ou une page selon le mode de pagination) contenant les instances de {@link RuleName}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<RuleName> findPaginated(Pageable pageable) {
+    public Slice<RuleName> findPaginated(Pageable pageable) {
         logger.info("Récupération de toutes les règles de nom par page");
-        return ruleNameRepository.findAll(pageable);
+        return pageCache.get(RuleName.class, pageable,
+                () -> paginator.paginate(RuleName.class, pageable, ruleNameRepository::findAllBy, ruleNameRepository::findAll, ruleNameRepository::count));
     }
 
 
@@ -58,7 +78,11 @@ public class RuleNameServiceImpl implements RuleNameService {
      */
     public RuleName insert(RuleName ruleName) {
         logger.info("Insertion de la règle de nom : {}", ruleName);
-        return ruleNameRepository.save(ruleName);
+        RuleName saved = ruleNameRepository.save(ruleName);
+        // L'entrée en cache est retirée : la prochaine lecture recharge l'état enregistré
+        entityManagerFactory.getCache().evict(RuleName.class, saved.getId());
+        pageCache.invalidate(RuleName.class);
+        return saved;
     }
 
     /**
@@ -66,8 +90,38 @@ public class RuleNameServiceImpl implements RuleNameService {
      * @param ruleName La règle de nom à supprimer.
      */
     public void delete(RuleName ruleName) {
-        logger.info("Suppression de la règle de nom avec l'ID : {}", ruleName.getId());
-        ruleNameRepository.deleteById(ruleName.getId());
+        deleteById(ruleName.getId());
+    }
+
+    /**
+     * Supprime une règle de nom par son identifiant, en une seule requête.
+     * @param id L'identifiant de la règle de nom.
+     * @return true si une règle de nom a été supprimée.
+     */
+    @Override
+    public boolean deleteById(int id) {
+        logger.info("Suppression de la règle de nom avec l'ID : {}", id);
+        boolean deleted = ruleNameRepository.deleteRowById(id) > 0;
+        pageCache.invalidate(RuleName.class);
+        entityManagerFactory.getCache().evict(RuleName.class, id);
+        return deleted;
+    }
+
+    /**
+     * Supprime plusieurs règles de nom en une seule requête.
+     * @param ids Les identifiants des règles de nom.
+     * @return Le nombre de règles de nom supprimées.
+     */
+    @Override
+    public int deleteByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Suppression de {} règles de nom : {}", ids.size(), ids);
+        int deleted = ruleNameRepository.deleteRowsByIdIn(ids);
+        pageCache.invalidate(RuleName.class);
+        ids.forEach(id -> entityManagerFactory.getCache().evict(RuleName.class, id));
+        return deleted;
     }
 
     /**
@@ -75,6 +129,7 @@ public class RuleNameServiceImpl implements RuleNameService {
      * @param id L'ID de la règle de nom.
      * @return La règle de nom trouvée ou null si non trouvée.
      */
+    @Transactional(readOnly = true)
     public RuleName findRuleName(Integer id) {
         logger.info("Recherche de la règle de nom avec l'ID : {}", id);
         return ruleNameRepository.findById(id).orElse(null);
@@ -85,9 +140,27 @@ public class RuleNameServiceImpl implements RuleNameService {
      * @param id L'ID de la règle de nom.
      * @return true si la règle de nom existe, false sinon.
      */
+    @Transactional(readOnly = true)
     @Override
     public boolean existsById(int id) {
         logger.info("Vérification de l'existence de la règle de nom avec l'ID : {}", id);
         return ruleNameRepository.existsById(id);
     }
+
+    /**
+     * Récupère plusieurs règles de nom par leurs identifiants, triées par identifiant.
+     * @param ids Les identifiants des règles de nom.
+     * @return Les règles de nom trouvées ; les identifiants inconnus sont ignorés.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<RuleName> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Recherche de {} règles de nom par identifiant", ids.size());
+        List<RuleName> ruleNames = new ArrayList<>(ruleNameRepository.findAllById(ids));
+        ruleNames.sort(Comparator.comparing(RuleName::getId));
+        return ruleNames;
+    }
 }
@@ -1,17 +1,56 @@
 package com.nnk.springboot.services.impl;
 
 import com.nnk.springboot.domain.RuleName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nnk.springboot.csv.CsvReader;
+import com.nnk.springboot.csv.CsvWriter;
+import com.nnk.springboot.csv.TradeCsvColumn;
 import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.dto.ExportFormat;
+import com.nnk.springboot.dto.ImportReport;
+import com.nnk.springboot.pagination.Cursor;
+import com.nnk.springboot.pagination.KeysetPage;
+import com.nnk.springboot.pagination.Paginator;
+import com.nnk.springboot.repositories.projections.TradeSummary;
 import com.nnk.springboot.repositories.TradeRepository;
 import com.nnk.springboot.services.TradeService;
-import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 /**
  * Implémentation du service Trade.
@@ -24,14 +63,39 @@ public class TradeServiceImpl implements TradeService {
 
     private final TradeRepository traderepository;
 
-    public TradeServiceImpl(TradeRepository traderepository) {
+    private final Paginator paginator;
+
+    private final Validator validator;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectWriter exportWriter;
+
+    @Value("${app.import.chunk-size:1000}")
+    private int importChunkSize;
+
+    @Value("${app.import.max-reported-errors:500}")
+    private int maxReportedErrors;
+
+    public TradeServiceImpl(TradeRepository traderepository, Paginator paginator, Validator validator,
+                            EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper) {
         this.traderepository = traderepository;
+        this.paginator = paginator;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Pas de vidage du tampon après chaque objet : le flux est vidé par blocs
+        this.exportWriter = objectMapper.writerFor(Trade.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
      * Récupère toutes les transactions.
      * @return la liste des transactions.
      */
+    @Transactional(readOnly = true)
     public List<Trade> findAllTrade() {
         logger.info("Récupération de toutes les transactions");
         return traderepository.findAll();
@@ -43,12 +107,30 @@ public class TradeServiceImpl implements TradeService {
      * Récupère une page paginée de soumissions.
      *
      * @param pageable l'objet définissant la pagination (page actuelle, taille de la page, etc.).
-     * @return une page contenant les instances de {@link Trade}.
+     * @return une tranche (ou une page selon le mode de pagination) contenant les instances de {@link Trade}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<Trade> findPaginated(Pageable pageable) {
+    public Slice<Trade> findPaginated(Pageable pageable) {
         logger.info("Récupération de toutes les transactions par page");
-        return traderepository.findAll(pageable);
+        return paginator.paginate(Trade.class, pageable, traderepository::findAllBy, traderepository::findAll, traderepository::count);
+    }
+
+    /**
+     * Récupère une page de transactions par pagination par clé sur l'identifiant.
+     *
+     * @param cursor le curseur opaque de la page précédente, ou {@code null} pour la première page.
+     * @param size   le nombre de transactions par page.
+     * @return une page contenant les résumés {@link TradeSummary}, lus en lecture seule, et les curseurs de navigation.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TradeSummary> findByCursor(String cursor, int size) {
+        logger.info("Récupération des transactions par curseur");
+        return KeysetPage.fetch(Cursor.decode(cursor), size,
+                traderepository::findByTradeIdGreaterThanOrderByTradeIdAsc,
+                traderepository::findByTradeIdLessThanOrderByTradeIdDesc,
+                TradeSummary::getTradeId);
     }
 
 
@@ -63,14 +145,265 @@ public class TradeServiceImpl implements TradeService {
         return traderepository.save(trade);
     }
 
+    /**
+     * Importe des transactions depuis un flux CSV, par lots transactionnels de taille fixe.
+     * Seul le lot en cours est conservé en mémoire : le contexte de persistance est vidé après
+     * chaque lot, y compris lorsque la session reste ouverte pendant toute la requête HTTP.
+     * @param reader Le contenu CSV.
+     * @return Le compte rendu de l'import.
+     */
+    @Override
+    public ImportReport importCsv(Reader reader) {
+        logger.info("Import CSV de transactions par lots de {}", importChunkSize);
+        ImportReport report = new ImportReport(maxReportedErrors);
+        CsvReader csv = new CsvReader(reader);
+        List<Trade> chunk = new ArrayList<>(importChunkSize);
+        List<Long> chunkLines = new ArrayList<>(importChunkSize);
+        try {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                report.abort(1, "Fichier vide : en-tête manquant");
+                return report;
+            }
+            TradeCsvColumn[] columns = new TradeCsvColumn[header.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = TradeCsvColumn.fromHeader(header.get(i));
+                if (columns[i] == null) {
+                    report.abort(1, "Colonne inconnue dans l'en-tête : '" + header.get(i) + "'");
+                    return report;
+                }
+            }
+
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                report.rowRead();
+                long line = csv.getRecordLineNumber();
+                Trade trade = toTrade(record, columns, line, report);
+                if (trade == null) {
+                    continue;
+                }
+                chunk.add(trade);
+                chunkLines.add(line);
+                if (chunk.size() == importChunkSize) {
+                    persistChunk(chunk, chunkLines, report);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Lecture du fichier CSV interrompue : {}", e.getMessage());
+            report.abort(csv.getRecordLineNumber(), "Lecture interrompue : " + e.getMessage());
+        }
+        persistChunk(chunk, chunkLines, report);
+        logger.info("Import CSV terminé : {} lignes lues, {} importées, {} rejetées",
+                report.getRowsRead(), report.getImported(), report.getRejected());
+        return report;
+    }
+
+    /**
+     * Convertit et valide un enregistrement CSV.
+     * @return Le Trade, ou null si la ligne a été rejetée.
+     */
+    private Trade toTrade(List<String> record, TradeCsvColumn[] columns, long line, ImportReport report) {
+        if (record.size() != columns.length) {
+            report.reject(line, "Nombre de colonnes incorrect : " + record.size() + " au lieu de " + columns.length);
+            return null;
+        }
+        Trade trade = new Trade();
+        for (int i = 0; i < columns.length; i++) {
+            try {
+                columns[i].apply(trade, record.get(i));
+            } catch (IllegalArgumentException e) {
+                report.reject(line, columns[i].getHeader() + " : " + e.getMessage());
+                return null;
+            }
+        }
+        Set<ConstraintViolation<Trade>> violations = validator.validate(trade);
+        if (!violations.isEmpty()) {
+            report.reject(line, violations.stream()
+                    .map(v -> v.getPropertyPath() + " : " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return trade;
+    }
+
+    /**
+     * Enregistre un lot dans sa propre transaction puis vide le lot. En cas d'échec, le lot est repris
+     * ligne par ligne : seules les lignes refusées par la base sont rapportées en erreur.
+     */
+    private void persistChunk(List<Trade> chunk, List<Long> chunkLines, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                traderepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.imported(chunk.size());
+        } catch (DataAccessException | PersistenceException | TransactionException | ConstraintViolationException e) {
+            logger.warn("Échec de l'enregistrement d'un lot de {} transactions, reprise ligne par ligne : {}",
+                    chunk.size(), e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                persistRow(chunk.get(i), chunkLines.get(i), report);
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * Enregistre une ligne d'un lot refusé dans sa propre transaction.
+     */
+    private void persistRow(Trade trade, long line, ImportReport report) {
+        // Identifiant éventuellement attribué pendant la transaction annulée du lot
+        trade.setTradeId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                traderepository.save(trade);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.imported(1);
+        } catch (DataAccessException | PersistenceException | TransactionException | ConstraintViolationException e) {
+            logger.error("Ligne {} rejetée par la base de données : {}", line, e.getMessage());
+            report.reject(line, "Ligne rejetée par la base de données : "
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    /**
+     * Exporte toutes les transactions en flux, dans une transaction en lecture seule.
+     * Chaque entité est détachée dès qu'elle est écrite : la mémoire utilisée ne dépend pas
+     * du nombre de lignes exportées.
+     * @param format Le format d'export.
+     * @param out Le flux de destination ; il n'est pas fermé.
+     * @return Le nombre de transactions exportées.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTrades(ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Export en flux des transactions au format {}", format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        long count = switch (format) {
+            case CSV -> exportCsv(writer);
+            case JSON -> exportJson(writer);
+        };
+        writer.flush();
+        logger.info("Export terminé : {} transactions", count);
+        return count;
+    }
+
+    private long exportCsv(Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        for (TradeCsvColumn column : TradeCsvColumn.values()) {
+            csv.writeField(column.getHeader());
+        }
+        csv.endRecord();
+        return forEachTrade(trade -> {
+            try {
+                for (TradeCsvColumn column : TradeCsvColumn.values()) {
+                    csv.writeField(column.read(trade));
+                }
+                csv.endRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long exportJson(Writer writer) throws IOException {
+        JsonGenerator generator = exportWriter.createGenerator(writer);
+        generator.writeStartArray();
+        long count = forEachTrade(trade -> {
+            try {
+                exportWriter.writeValue(generator, trade);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.flush();
+        return count;
+    }
+
+    /**
+     * Parcourt les transactions en flux en détachant chaque entité après traitement.
+     */
+    private long forEachTrade(Consumer<Trade> action) throws IOException {
+        long count = 0;
+        try (Stream<Trade> trades = traderepository.streamAllByOrderByTradeIdAsc()) {
+            for (Trade trade : (Iterable<Trade>) trades::iterator) {
+                action.accept(trade);
+                entityManager.detach(trade);
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count;
+    }
+
     /**
      * Supprime une transaction.
      * @param trade La transaction à supprimer.
      */
     @Transactional
     public void delete(Trade trade){
-        logger.info("Suppression de la transaction avec l'ID : {}", trade.getTradeId());
-        traderepository.deleteById(trade.getTradeId());
+        deleteById(trade.getTradeId());
+    }
+
+    /**
+     * Supprime une transaction par son identifiant, en une seule requête.
+     * @param id L'identifiant de la transaction.
+     * @return true si une transaction a été supprimée.
+     */
+    @Override
+    public boolean deleteById(int id) {
+        logger.info("Suppression de la transaction avec l'ID : {}", id);
+        boolean deleted = traderepository.deleteRowById(id) > 0;
+        return deleted;
+    }
+
+    /**
+     * Supprime plusieurs transactions en une seule requête.
+     * @param ids Les identifiants des transactions.
+     * @return Le nombre de transactions supprimées.
+     */
+    @Override
+    public int deleteByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Suppression de {} transactions : {}", ids.size(), ids);
+        int deleted = traderepository.deleteRowsByIdIn(ids);
+        return deleted;
+    }
+
+    /**
+     * Met à jour une transaction à partir des champs modifiables du formulaire.
+     * L'entité chargée est modifiée sans appel à {@code save} : à la validation de la transaction,
+     * la détection des modifications n'écrit que les colonnes changées ({@code @DynamicUpdate}),
+     * et n'émet aucun {@code UPDATE} si les valeurs sont identiques.
+     * @param id L'identifiant de la transaction.
+     * @param form Les valeurs saisies.
+     * @return L'entité mise à jour, ou null si elle n'existe pas.
+     */
+    @Override
+    @Transactional
+    public Trade update(Integer id, Trade form) {
+        Trade trade = traderepository.findById(id).orElse(null);
+        if (trade == null) {
+            logger.warn("Aucune transaction avec l'ID {} à mettre à jour", id);
+            return null;
+        }
+        logger.info("Mise à jour de la transaction avec l'ID : {}", id);
+        trade.setAccount(form.getAccount());
+        trade.setType(form.getType());
+        trade.setBuyQuantity(form.getBuyQuantity());
+        return trade;
     }
 
     /**
@@ -78,6 +411,7 @@ public class TradeServiceImpl implements TradeService {
      * @param id L'ID de la transaction.
      * @return La transaction trouvée ou null si non trouvée.
      */
+    @Transactional(readOnly = true)
     public Trade findTrade(Integer id){
         logger.info("Recherche de la transaction avec l'ID : {}", id);
         return traderepository.findById(id).orElse(null);
@@ -88,9 +422,27 @@ public class TradeServiceImpl implements TradeService {
      * @param id L'ID de la transaction.
      * @return true si la transaction existe, false sinon.
      */
+    @Transactional(readOnly = true)
     @Override
     public boolean existsById(int id) {
         logger.info("Vérification de l'existence de la transaction avec l'ID : {}", id);
         return traderepository.existsById(id);
     }
+
+    /**
+     * Récupère plusieurs transactions par leurs identifiants, triées par identifiant.
+     * @param ids Les identifiants des transactions.
+     * @return Les transactions trouvées ; les identifiants inconnus sont ignorés.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<Trade> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Recherche de {} transactions par identifiant", ids.size());
+        List<Trade> trades = new ArrayList<>(traderepository.findAllById(ids));
+        trades.sort(Comparator.comparing(Trade::getTradeId));
+        return trades;
+    }
 }
@@ -1,21 +1,36 @@
 package com.nnk.springboot.services.impl;
 
+import com.nnk.springboot.config.PasswordHashingExecutor;
+import com.nnk.springboot.config.UserDetailsCache;
 import com.nnk.springboot.domain.User;
+import com.nnk.springboot.pagination.Paginator;
 import com.nnk.springboot.repositories.UserRepository;
 import com.nnk.springboot.services.UserService;
-import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Implémentation du service User.
  * Ce service permet de gérer les opérations liées aux utilisateurs du système.
+ * <p>
+ * Les mots de passe sont hachés sur le {@link PasswordHashingExecutor} : les méthodes synchrones attendent
+ * le hachage, les variantes {@code *Async} rendent la main aussitôt et enregistrent l'utilisateur dans
+ * une transaction séparée, sur l'exécuteur de tâches de l'application ({@code applicationTaskExecutor}) :
+ * les threads de hachage ne font que hacher et ne restent pas bloqués sur la base.
  */
 @Service
 public class UserServiceImpl implements UserService {
@@ -24,18 +39,35 @@ public class UserServiceImpl implements UserService {
 
     final private UserRepository userRepository;
 
-    private final PasswordEncoder passwordEncoder;
+    private final Paginator paginator;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final PasswordHashingExecutor passwordHashing;
+
+    private final UserDetailsCache userDetailsCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor transactionExecutor;
+
+    public UserServiceImpl(UserRepository userRepository, PasswordHashingExecutor passwordHashing, Paginator paginator,
+                           UserDetailsCache userDetailsCache, PlatformTransactionManager transactionManager,
+                           @Qualifier("applicationTaskExecutor") Executor transactionExecutor) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.paginator = paginator;
+        this.userDetailsCache = userDetailsCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionExecutor = transactionExecutor;
     }
 
     /**
      * Récupère un utilisateur par son nom d'utilisateur.
+     * La transaction n'est pas en lecture seule : la lecture, qui sert à l'authentification et alimente le
+     * {@link UserDetailsCache}, se fait sur la base primaire et non sur un réplica en retard.
      * @param username Le nom d'utilisateur.
      * @return L'utilisateur trouvé ou null si non trouvé.
      */
+    @Transactional
     @Override
     public User findByUsername(String username) {
         logger.info("Recherche de l'utilisateur avec le nom d'utilisateur : {}", username);
@@ -48,18 +80,20 @@ public class UserServiceImpl implements UserService {
      * Récupère une page paginée de soumissions.
      *
      * @param pageable l'objet définissant la pagination (page actuelle, taille de la page, etc.).
-     * @return une page contenant les instances de {@link User}.
+     * @return une tranche (ou une page selon le mode de pagination) contenant les instances de {@link User}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public Page<User> findPaginated(Pageable pageable) {
+    public Slice<User> findPaginated(Pageable pageable) {
         logger.info("Récupération de toutes les utilisateurs par page");
-        return userRepository.findAll(pageable);
+        return paginator.paginate(User.class, pageable, userRepository::findAllBy, userRepository::findAll, userRepository::count);
     }
 
 
 
     /**
      * Insère un nouvel utilisateur.
+     * Le cache des utilisateurs authentifiés est vidé.
      * @param user L'utilisateur à insérer.
      * @return L'utilisateur inséré.
      */
@@ -67,13 +101,57 @@ public class UserServiceImpl implements UserService {
     @Override
     public User insert(User user) {
         logger.info("Insertion de l'utilisateur : {}", user);
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        user.setPassword(passwordHashing.encode(user.getPassword()));
+        return save(user);
+    }
+
+    /**
+     * Insère un nouvel utilisateur, mot de passe haché sur l'exécuteur de hachage.
+     * @param user L'utilisateur à insérer.
+     * @return L'utilisateur inséré, une fois le hachage et la transaction terminés.
+     */
+    @Override
+    public CompletableFuture<User> insertAsync(User user) {
+        logger.info("Insertion asynchrone de l'utilisateur : {}", user);
+        return passwordHashing.encodeAsync(user.getPassword()).thenApplyAsync(hash -> {
+            user.setPassword(hash);
+            return transactionTemplate.execute(status -> save(user));
+        }, transactionExecutor);
+    }
+
+    /**
+     * Insère un ensemble d'utilisateurs par lots JDBC.
+     * @param users Les utilisateurs à insérer.
+     * @return Le nombre d'utilisateurs insérés.
+     */
+    @Transactional
+    @Override
+    public int insertAll(Collection<User> users) {
+        logger.info("Insertion en masse de {} utilisateurs", users.size());
+        List<User> list = List.copyOf(users);
+        setPasswords(list, passwordHashing.encodeAll(list.stream().map(User::getPassword).toList()));
+        return saveAll(list);
+    }
+
+    /**
+     * Insère un ensemble d'utilisateurs par lots JDBC, mots de passe hachés sur l'exécuteur de hachage.
+     * @param users Les utilisateurs à insérer.
+     * @return Le nombre d'utilisateurs insérés, une fois les hachages et la transaction terminés.
+     */
+    @Override
+    public CompletableFuture<Integer> insertAllAsync(Collection<User> users) {
+        logger.info("Insertion asynchrone en masse de {} utilisateurs", users.size());
+        List<User> list = List.copyOf(users);
+        return passwordHashing.encodeAllAsync(list.stream().map(User::getPassword).toList()).thenApplyAsync(hashes -> {
+            setPasswords(list, hashes);
+            return transactionTemplate.execute(status -> saveAll(list));
+        }, transactionExecutor);
     }
 
 
     /**
      * Mise à jour de utilisateur.
+     * Le cache des utilisateurs authentifiés est vidé.
      * @param user L'utilisateur à insérer.
      * @return L'utilisateur inséré.
      */
@@ -83,13 +161,66 @@ public class UserServiceImpl implements UserService {
         logger.info("mise à jour de l'utilisateur : {}", user);
 
         if (!user.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(user.getPassword()));
+            user.setPassword(passwordHashing.encode(user.getPassword()));
+        }
+        return save(user);
+    }
+
+    /**
+     * Mise à jour asynchrone d'un utilisateur, mot de passe haché sur l'exécuteur de hachage.
+     * @param user L'utilisateur à mettre à jour.
+     * @return L'utilisateur mis à jour, une fois le hachage et la transaction terminés.
+     */
+    @Override
+    public CompletableFuture<User> updateAsync(User user) {
+        logger.info("mise à jour asynchrone de l'utilisateur : {}", user);
+        CompletableFuture<String> password = user.getPassword().isEmpty()
+                ? CompletableFuture.completedFuture(user.getPassword())
+                : passwordHashing.encodeAsync(user.getPassword());
+        return password.thenApplyAsync(hash -> {
+            user.setPassword(hash);
+            return transactionTemplate.execute(status -> save(user));
+        }, transactionExecutor);
+    }
+
+    private User save(User user) {
+        User saved = userRepository.save(user);
+        userDetailsCache.invalidateAll();
+        return saved;
+    }
+
+    private int saveAll(List<User> users) {
+        int inserted = userRepository.insertAll(users);
+        userDetailsCache.invalidateAll();
+        return inserted;
+    }
+
+    private static void setPasswords(List<User> users, List<String> hashes) {
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setPassword(hashes.get(i));
         }
-        return userRepository.save(user);
     }
 
 
 
+    /**
+     * Remplace le mot de passe encodé d'un utilisateur, sans le réencoder.
+     * Le cache des utilisateurs authentifiés est vidé.
+     * @param username Le nom d'utilisateur.
+     * @param encodedPassword Le mot de passe encodé.
+     * @return true si l'utilisateur a été modifié.
+     */
+    @Transactional
+    @Override
+    public boolean updateEncodedPassword(String username, String encodedPassword) {
+        logger.info("Réencodage du mot de passe de l'utilisateur : {}", username);
+        boolean updated = userRepository.updatePassword(username, encodedPassword) > 0;
+        if (updated) {
+            userDetailsCache.invalidateAll();
+        }
+        return updated;
+    }
+
     /**
      * Supprime un utilisateur.
      * @param user L'utilisateur à supprimer.
@@ -97,8 +228,42 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public void delete(User user) {
-        logger.info("Suppression de l'utilisateur avec l'ID : {}", user.getId());
-        userRepository.deleteById(user.getId());
+        deleteById(user.getId());
+    }
+
+    /**
+     * Supprime un utilisateur par son identifiant, en une seule requête.
+     * Le cache des utilisateurs authentifiés est vidé.
+     * @param id L'identifiant de l'utilisateur.
+     * @return true si un utilisateur a été supprimé.
+     */
+    @Override
+    public boolean deleteById(int id) {
+        logger.info("Suppression de l'utilisateur avec l'ID : {}", id);
+        boolean deleted = userRepository.deleteRowById(id) > 0;
+        if (deleted) {
+            userDetailsCache.invalidateAll();
+        }
+        return deleted;
+    }
+
+    /**
+     * Supprime plusieurs utilisateurs en une seule requête.
+     * Le cache des utilisateurs authentifiés est vidé.
+     * @param ids Les identifiants des utilisateurs.
+     * @return Le nombre de utilisateurs supprimés.
+     */
+    @Override
+    public int deleteByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        logger.info("Suppression de {} utilisateurs : {}", ids.size(), ids);
+        int deleted = userRepository.deleteRowsByIdIn(ids);
+        if (deleted > 0) {
+            userDetailsCache.invalidateAll();
+        }
+        return deleted;
     }
 
     /**
@@ -106,6 +271,7 @@ public class UserServiceImpl implements UserService {
      * @param id L'ID de l'utilisateur.
      * @return L'utilisateur trouvé ou null si non trouvé.
      */
+    @Transactional(readOnly = true)
     @Override
     public User findUser(Integer id) {
         logger.info("Recherche de l'utilisateur avec l'ID : {}", id);
@@ -116,6 +282,7 @@ public class UserServiceImpl implements UserService {
      * Récupère tous les utilisateurs.
      * @return La liste des utilisateurs.
      */
+    @Transactional(readOnly = true)
     @Override
     public List<User> findAllUsers() {
         logger.info("Récupération de tous les utilisateurs");
@@ -127,9 +294,27 @@ public class UserServiceImpl implements UserService {
      * @param id L'ID de l'utilisateur.
      * @return true si l'utilisateur existe, false sinon.
      */
+    @Transactional(readOnly = true)
     @Override
     public boolean existsById(int id) {
         logger.info("Vérification de l'existence de l'utilisateur avec l'ID : {}", id);
         return userRepository.existsById(id);
     }
+
+    /**
+     * Récupère plusieurs utilisateurs par leurs identifiants, triés par identifiant.
+     * @param ids Les identifiants des utilisateurs.
+     * @return Les utilisateurs trouvés ; les identifiants inconnus sont ignorés.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public List<User> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        logger.info("Recherche de {} utilisateurs par identifiant", ids.size());
+        List<User> users = new ArrayList<>(userRepository.findAllById(ids));
+        users.sort(Comparator.comparing(User::getId));
+        return users;
+    }
 }
@@ -0,0 +1,146 @@
+package com.nnk.springboot.web;
+
+import com.nnk.springboot.metrics.ConnectionPoolMonitor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contrôle d'admission des requêtes selon la saturation du pool de connexions.
+ * <p>
+ * Tant que le nombre de demandes de connexion en attente reste sous {@code app.admission.max-pending},
+ * les requêtes passent sans coût. Au-delà, une requête attend au plus {@code app.admission.max-wait}
+ * que la file se résorbe (réveil au retour d'une connexion au pool), dans la limite de
+ * {@code app.admission.max-queue} requêtes en attente ; sinon elle est refusée immédiatement en
+ * {@code 503} avec {@code Retry-After}. Les threads Tomcat ne s'accumulent donc plus dans la file du
+ * pool et la latence reste bornée pendant un pic.
+ * <p>
+ * Les ressources statiques, la page de connexion, les pages d'erreur et l'Actuator ne sont pas filtrés.
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private static final List<String> EXCLUDED_PREFIXES = List.of("/css/", "/js/", "/actuator", "/login", "/error");
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    private final boolean enabled;
+
+    private final int maxPending;
+
+    private final Duration maxWait;
+
+    private final Semaphore queue;
+
+    private final long retryAfterSeconds;
+
+    private final LongAdder admitted = new LongAdder();
+
+    private final LongAdder delayed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructeur.
+     *
+     * @param connectionPoolMonitor L'instrumentation des pools.
+     * @param enabled               Active le contrôle ({@code app.admission.enabled}).
+     * @param maxPending            Nombre de demandes de connexion en attente toléré ({@code app.admission.max-pending}).
+     * @param maxWait               Attente maximale d'une requête, zéro pour refuser sans attendre
+     *                              ({@code app.admission.max-wait}).
+     * @param maxQueue              Nombre maximal de requêtes en attente d'admission ({@code app.admission.max-queue}).
+     */
+    public AdmissionControlFilter(ConnectionPoolMonitor connectionPoolMonitor,
+                                  @Value("${app.admission.enabled:true}") boolean enabled,
+                                  @Value("${app.admission.max-pending:10}") int maxPending,
+                                  @Value("${app.admission.max-wait:200ms}") Duration maxWait,
+                                  @Value("${app.admission.max-queue:50}") int maxQueue) {
+        this.connectionPoolMonitor = connectionPoolMonitor;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.maxWait = maxWait;
+        this.queue = new Semaphore(maxQueue);
+        this.retryAfterSeconds = Math.max(1, maxWait.toSeconds());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EXCLUDED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (connectionPoolMonitor.pendingConnections() <= maxPending) {
+            admitted.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!awaitAdmission()) {
+            rejected.increment();
+            logger.warn("Requête {} {} refusée : pool de connexions saturé", request.getMethod(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service temporairement surchargé");
+            return;
+        }
+        delayed.increment();
+        admitted.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean awaitAdmission() {
+        if (maxWait.isZero() || maxWait.isNegative() || !queue.tryAcquire()) {
+            return false;
+        }
+        try {
+            return connectionPoolMonitor.awaitPendingAtMost(maxPending, maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queue.release();
+        }
+    }
+
+    /**
+     * Compteurs du contrôle d'admission depuis le démarrage.
+     *
+     * @return Les compteurs.
+     */
+    public Statistics statistics() {
+        return new Statistics(enabled, maxPending, maxWait.toMillis(), admitted.sum(), delayed.sum(), rejected.sum());
+    }
+
+    /**
+     * Compteurs du contrôle d'admission.
+     *
+     * @param enabled       Le contrôle est actif.
+     * @param maxPending    Le seuil de demandes de connexion en attente.
+     * @param maxWaitMillis L'attente maximale d'une requête.
+     * @param admitted      Les requêtes admises.
+     * @param delayed       Les requêtes admises après attente.
+     * @param rejected      Les requêtes refusées en 503.
+     */
+    public record Statistics(boolean enabled, int maxPending, long maxWaitMillis, long admitted, long delayed,
+                             long rejected) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.nnk.springboot.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Limiteur de débit par clé (adresse IP, nom d'utilisateur), sans verrou et à mémoire bornée.
+ * <p>
+ * Chaque seau à jetons est représenté par l'algorithme GCRA : une seule valeur, l'instant théorique
+ * d'arrivée de la prochaine demande ({@code tat}), avance d'un intervalle d'émission à chaque demande
+ * acceptée. Une demande est refusée si {@code tat} dépasse l'instant courant de plus de la tolérance
+ * de rafale. Un seau inutilisé redevient plein avec le temps : aucune purge n'est nécessaire.
+ * <p>
+ * Les seaux sont répartis sur un tableau fixe de {@code stripes} cases mis à jour par compare-and-set.
+ * Comme dans un count-min sketch, une clé occupe deux cases (deux hachages indépendants) et n'est
+ * refusée que si les deux sont épuisées : une clé qui partage une case avec une clé abusive reste
+ * servie par l'autre.
+ */
+public class GcraRateLimiter {
+
+    private final AtomicLongArray tats;
+
+    private final int mask;
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final LongSupplier clock;
+
+    private final long origin;
+
+    /**
+     * Constructeur.
+     *
+     * @param stripes Le nombre de cases (arrondi à la puissance de deux supérieure).
+     * @param burst   Le nombre de demandes acceptées d'affilée par un seau plein.
+     * @param rate    Le nombre de demandes rendues par période.
+     * @param period  La période de recharge.
+     */
+    public GcraRateLimiter(int stripes, int burst, int rate, Duration period) {
+        this(stripes, burst, rate, period, System::nanoTime);
+    }
+
+    GcraRateLimiter(int stripes, int burst, int rate, Duration period, LongSupplier clock) {
+        if (stripes < 1 || burst < 1 || rate < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Paramètres de limitation invalides");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.tats = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = period.toNanos() / rate;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.clock = clock;
+        // Les cases valent 0 au départ : l'origine est placée assez loin dans le passé pour que tous
+        // les seaux soient pleins.
+        this.origin = clock.getAsLong() - burstToleranceNanos - emissionIntervalNanos;
+    }
+
+    /**
+     * Consomme un jeton pour une clé.
+     *
+     * @param key La clé.
+     * @return 0 si la demande est acceptée, sinon le délai en nanosecondes avant qu'elle puisse l'être.
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong() - origin;
+        int hash = spread(key.hashCode());
+        int first = hash & mask;
+        int second = spread(hash ^ 0x9E3779B9) & mask;
+        if (second == first) {
+            second = first ^ 1;
+        }
+
+        long wait = Math.min(delay(first, now), delay(second, now));
+        if (wait > 0) {
+            return wait;
+        }
+        advance(first, now);
+        advance(second, now);
+        return 0;
+    }
+
+    private long delay(int slot, long now) {
+        return Math.max(tats.get(slot), now) - now - burstToleranceNanos;
+    }
+
+    private void advance(int slot, long now) {
+        long tat;
+        do {
+            tat = tats.get(slot);
+        } while (!tats.compareAndSet(slot, tat, Math.max(tat, now) + emissionIntervalNanos));
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nnk.springboot.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limitation des tentatives de connexion par adresse IP et par nom d'utilisateur.
+ * <p>
+ * Placé dans la chaîne de sécurité avant {@code UsernamePasswordAuthenticationFilter}, le filtre
+ * refuse en {@code 429} (avec {@code Retry-After}) les {@code POST /login} au-delà du débit autorisé,
+ * avant tout chargement d'utilisateur ou calcul BCrypt : une rafale de tentatives (bourrage
+ * d'identifiants) ne peut plus occuper tous les cœurs à hacher des mots de passe.
+ * <p>
+ * L'adresse IP est vérifiée en premier ; le nom d'utilisateur, normalisé en minuscules, ensuite. Chaque
+ * limite est un {@link GcraRateLimiter} : une rafale de {@code burst} tentatives, puis {@code rate}
+ * tentatives par minute.
+ * <p>
+ * La requête de connexion est reconnue comme par l'authentification par formulaire, sur le chemin
+ * décodé : un chemin encodé ({@code /log%69n}) est limité comme {@code /login}. L'adresse IP est celle
+ * du client, lue dans {@code X-Forwarded-For} lorsque la connexion vient d'un proxy interne
+ * ({@code server.forward-headers-strategy=native}).
+ */
+@Component
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottleFilter.class);
+
+    /** Même correspondance que le traitement de {@code formLogin} ({@code loginPage("/login")}). */
+    private static final RequestMatcher LOGIN_REQUEST = new AntPathRequestMatcher("/login", "POST");
+
+    private final boolean enabled;
+
+    private final GcraRateLimiter byAddress;
+
+    private final GcraRateLimiter byUsername;
+
+    private final LongAdder allowed = new LongAdder();
+
+    private final LongAdder rejectedByAddress = new LongAdder();
+
+    private final LongAdder rejectedByUsername = new LongAdder();
+
+    /**
+     * Constructeur.
+     *
+     * @param enabled         Active la limitation ({@code app.security.login-throttle.enabled}).
+     * @param stripes         Nombre de cases de chaque limiteur ({@code app.security.login-throttle.stripes}).
+     * @param addressBurst    Tentatives d'affilée par adresse IP ({@code app.security.login-throttle.ip.burst}).
+     * @param addressRate     Tentatives par minute et par adresse IP ({@code app.security.login-throttle.ip.rate}).
+     * @param usernameBurst   Tentatives d'affilée par nom d'utilisateur ({@code app.security.login-throttle.username.burst}).
+     * @param usernameRate    Tentatives par minute et par nom d'utilisateur ({@code app.security.login-throttle.username.rate}).
+     */
+    @Autowired
+    public LoginThrottleFilter(@Value("${app.security.login-throttle.enabled:true}") boolean enabled,
+                               @Value("${app.security.login-throttle.stripes:65536}") int stripes,
+                               @Value("${app.security.login-throttle.ip.burst:20}") int addressBurst,
+                               @Value("${app.security.login-throttle.ip.rate:10}") int addressRate,
+                               @Value("${app.security.login-throttle.username.burst:5}") int usernameBurst,
+                               @Value("${app.security.login-throttle.username.rate:3}") int usernameRate) {
+        this(enabled, new GcraRateLimiter(stripes, addressBurst, addressRate, Duration.ofMinutes(1)),
+                new GcraRateLimiter(stripes, usernameBurst, usernameRate, Duration.ofMinutes(1)));
+    }
+
+    LoginThrottleFilter(boolean enabled, GcraRateLimiter byAddress, GcraRateLimiter byUsername) {
+        this.enabled = enabled;
+        this.byAddress = byAddress;
+        this.byUsername = byUsername;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !LOGIN_REQUEST.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long wait = byAddress.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            rejectedByAddress.increment();
+            logger.debug("Tentative de connexion refusée pour l'adresse {}", request.getRemoteAddr());
+            reject(response, wait);
+            return;
+        }
+        String username = request.getParameter("username");
+        if (username != null) {
+            wait = byUsername.tryAcquire(username.trim().toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                rejectedByUsername.increment();
+                logger.debug("Tentative de connexion refusée pour l'utilisateur {}", username);
+                reject(response, wait);
+                return;
+            }
+        }
+        allowed.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Trop de tentatives de connexion");
+    }
+
+    /**
+     * Compteurs de la limitation depuis le démarrage.
+     *
+     * @return Les compteurs.
+     */
+    public Statistics statistics() {
+        return new Statistics(enabled, allowed.sum(), rejectedByAddress.sum(), rejectedByUsername.sum());
+    }
+
+    /**
+     * Compteurs de la limitation des connexions.
+     *
+     * @param enabled            La limitation est active.
+     * @param allowed            Les tentatives transmises à l'authentification.
+     * @param rejectedByAddress  Les tentatives refusées par la limite par adresse IP.
+     * @param rejectedByUsername Les tentatives refusées par la limite par nom d'utilisateur.
+     */
+    public record Statistics(boolean enabled, long allowed, long rejectedByAddress, long rejectedByUsername) {
+    }
+}
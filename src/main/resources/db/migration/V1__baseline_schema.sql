@@ -0,0 +1,103 @@
+-- Schéma initial de l'application (reprise de doc/data.sql avec les noms de tables des entités).
+-- Sur une base existante, cette version est considérée comme déjà appliquée (baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS bidlist (
+  bid_list_id bigint NOT NULL AUTO_INCREMENT,
+  account VARCHAR(30) NOT NULL,
+  type VARCHAR(30) NOT NULL,
+  bid_quantity DOUBLE,
+  ask_quantity DOUBLE,
+  bid DOUBLE,
+  ask DOUBLE,
+  benchmark VARCHAR(125),
+  bid_list_date TIMESTAMP NULL,
+  commentary VARCHAR(125),
+  security VARCHAR(125),
+  status VARCHAR(10),
+  trader VARCHAR(125),
+  book VARCHAR(125),
+  creation_name VARCHAR(125),
+  creation_date TIMESTAMP NULL,
+  revision_name VARCHAR(125),
+  revision_date TIMESTAMP NULL,
+  deal_name VARCHAR(125),
+  deal_type VARCHAR(125),
+  source_list_id VARCHAR(125),
+  side VARCHAR(125),
+
+  PRIMARY KEY (bid_list_id)
+);
+
+CREATE TABLE IF NOT EXISTS trade (
+  trade_id bigint NOT NULL AUTO_INCREMENT,
+  account VARCHAR(30) NOT NULL,
+  type VARCHAR(30) NOT NULL,
+  buy_quantity DOUBLE,
+  sell_quantity DOUBLE,
+  buy_price DOUBLE,
+  sell_price DOUBLE,
+  trade_date TIMESTAMP NULL,
+  security VARCHAR(125),
+  status VARCHAR(10),
+  trader VARCHAR(125),
+  benchmark VARCHAR(125),
+  book VARCHAR(125),
+  creation_name VARCHAR(125),
+  creation_date TIMESTAMP NULL,
+  revision_name VARCHAR(125),
+  revision_date TIMESTAMP NULL,
+  deal_name VARCHAR(125),
+  deal_type VARCHAR(125),
+  source_list_id VARCHAR(125),
+  side VARCHAR(125),
+
+  PRIMARY KEY (trade_id)
+);
+
+CREATE TABLE IF NOT EXISTS curvepoint (
+  id bigint NOT NULL AUTO_INCREMENT,
+  curve_id bigint,
+  as_of_date TIMESTAMP NULL,
+  term DOUBLE,
+  value DOUBLE,
+  creation_date TIMESTAMP NULL,
+
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS rating (
+  id bigint NOT NULL AUTO_INCREMENT,
+  moodys_rating VARCHAR(125),
+  sand_p_rating VARCHAR(125),
+  fitch_rating VARCHAR(125),
+  order_number tinyint,
+
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS rulename (
+  id bigint NOT NULL AUTO_INCREMENT,
+  name VARCHAR(125),
+  description VARCHAR(125),
+  json VARCHAR(125),
+  template VARCHAR(512),
+  sql_str VARCHAR(125),
+  sql_part VARCHAR(125),
+
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+  id bigint NOT NULL AUTO_INCREMENT,
+  username VARCHAR(125),
+  password VARCHAR(125),
+  fullname VARCHAR(125),
+  role VARCHAR(125),
+
+  PRIMARY KEY (id)
+);
+
+INSERT INTO users (fullname, username, password, role)
+VALUES ('Administrator', 'admin', '$2a$10$JRe604YPPx7Ewy6/PK.UCeEyiIDY13grNnzXFuKPVhK0VpFOyhkPG', 'ADMIN');
+INSERT INTO users (fullname, username, password, role)
+VALUES ('User', 'user', '$2a$10$JRe604YPPx7Ewy6/PK.UCeEyiIDY13grNnzXFuKPVhK0VpFOyhkPG', 'USER');
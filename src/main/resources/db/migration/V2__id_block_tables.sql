@@ -0,0 +1,23 @@
+-- Tables de blocs d'identifiants (une ligne next_val par entité, optimiseur pooled-lo).
+-- Initialisées à MAX(id) + 1 pour reprendre la numérotation existante ; sans effet si la table
+-- a déjà été créée (doc/data.sql ou génération Hibernate).
+
+CREATE TABLE IF NOT EXISTS trade_seq (next_val bigint);
+INSERT INTO trade_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(trade_id), 0) + 1 AS next_val FROM trade) m
+WHERE NOT EXISTS (SELECT 1 FROM trade_seq);
+
+CREATE TABLE IF NOT EXISTS curvepoint_seq (next_val bigint);
+INSERT INTO curvepoint_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM curvepoint) m
+WHERE NOT EXISTS (SELECT 1 FROM curvepoint_seq);
+
+CREATE TABLE IF NOT EXISTS rating_seq (next_val bigint);
+INSERT INTO rating_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM rating) m
+WHERE NOT EXISTS (SELECT 1 FROM rating_seq);
+
+CREATE TABLE IF NOT EXISTS rulename_seq (next_val bigint);
+INSERT INTO rulename_seq (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM rulename) m
+WHERE NOT EXISTS (SELECT 1 FROM rulename_seq);
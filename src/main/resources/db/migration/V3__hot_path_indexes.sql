@@ -0,0 +1,13 @@
+-- Index des chemins de requête les plus sollicités, déclarés aussi sur les entités (@Table(indexes)).
+-- La contrainte d'unicité sur users.username sert d'index à la recherche effectuée à chaque connexion ;
+-- les doublons éventuels doivent être supprimés avant d'appliquer cette version.
+
+CREATE INDEX idx_bidlist_account_type ON bidlist (account, type);
+
+CREATE INDEX idx_trade_account_trade_date ON trade (account, trade_date);
+
+CREATE INDEX idx_curvepoint_curve_id_as_of_date ON curvepoint (curve_id, as_of_date);
+
+CREATE INDEX idx_rating_order_number ON rating (order_number);
+
+ALTER TABLE users ADD CONSTRAINT uk_users_username UNIQUE (username);
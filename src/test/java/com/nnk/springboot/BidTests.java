@@ -2,6 +2,10 @@ package com.nnk.springboot;
 
 import com.nnk.springboot.domain.BidList;
 import com.nnk.springboot.repositories.BidListRepository;
+import com.nnk.springboot.services.BidListService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,12 @@ public class BidTests {
 	@Autowired
 	private BidListRepository bidListRepository;
 
+	@Autowired
+	private BidListService bidListService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	@Test
 	public void bidListTest() {
 
@@ -54,4 +65,66 @@ public class BidTests {
 		Optional<BidList> bidList = bidListRepository.findById(id);
 		assertFalse(bidList.isPresent());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void bidListBulkInsertTest() {
+
+		// Plus de lignes qu'un lot afin de vérifier l'enchaînement de plusieurs lots
+		List<BidList> bids = new ArrayList<>();
+		for (int i = 0; i < 1500; i++) {
+			BidList bid = new BidList();
+			bid.setAccount("Bulk Account " + i);
+			bid.setType("Bulk Type");
+			bid.setBidQuantity((double) i);
+			bids.add(bid);
+		}
+
+		// Insert
+		assertEquals(1500, bidListRepository.insertAll(bids));
+
+		// Les identifiants générés sont affectés à chaque ligne
+		List<Integer> ids = bids.stream().map(BidList::getBidListId).toList();
+		assertTrue(ids.stream().allMatch(id -> id != null));
+		assertEquals(1500, bidListRepository.findAllById(ids).size());
+
+		// Delete
+		bidListRepository.deleteAllById(ids);
+		assertTrue(bidListRepository.findAllById(ids).isEmpty());
+	}
+
+	@Test
+	public void bidListPartialUpdateTest() {
+
+		BidList bid = new BidList();
+		bid.setAccount("Account Update");
+		bid.setType("Type Update");
+		bid.setBidQuantity(10d);
+		bid.setCommentary("Commentaire initial");
+		bid = bidListRepository.save(bid);
+		Integer id = bid.getBidListId();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		// Formulaire identique : aucune requête UPDATE
+		BidList form = new BidList();
+		form.setAccount("Account Update");
+		form.setType("Type Update");
+		form.setBidQuantity(10d);
+		long updates = statistics.getEntityUpdateCount();
+		assertNotNull(bidListService.update(id, form));
+		assertEquals(updates, statistics.getEntityUpdateCount());
+
+		// Un seul champ modifié : une requête UPDATE, les autres colonnes sont conservées
+		form.setBidQuantity(25d);
+		bidListService.update(id, form);
+		assertEquals(updates + 1, statistics.getEntityUpdateCount());
+		BidList updated = bidListRepository.findById(id).orElseThrow();
+		assertEquals(25d, updated.getBidQuantity());
+		assertEquals("Commentaire initial", updated.getCommentary());
+
+		// Identifiant inconnu
+		assertNull(bidListService.update(-1, form));
+
+		bidListRepository.deleteById(id);
+	}
+}
@@ -0,0 +1,84 @@
+package com.nnk.springboot;
+
+import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.repositories.TradeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test de concurrence du générateur d'identifiants par blocs ({@code PooledSequenceGenerator}).
+ * <p>
+ * 16 threads insèrent des Trades en parallèle : chaque identifiant doit être unique et le débit
+ * obtenu est journalisé.
+ */
+@SpringBootTest
+public class IdGeneratorConcurrencyTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdGeneratorConcurrencyTests.class);
+
+	private static final int WRITERS = 16;
+
+	private static final int INSERTS_PER_WRITER = 200;
+
+	@Autowired
+	private TradeRepository tradeRepository;
+
+	private final Set<Integer> generatedIds = ConcurrentHashMap.newKeySet();
+
+	@AfterEach
+	public void cleanUp() {
+		tradeRepository.deleteAllById(generatedIds);
+	}
+
+	@Test
+	public void concurrentInsertsGetUniqueIds() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+
+		for (int w = 0; w < WRITERS; w++) {
+			int writer = w;
+			writers.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < INSERTS_PER_WRITER; i++) {
+					Trade trade = new Trade();
+					trade.setAccount("Writer " + writer);
+					trade.setType("Concurrency");
+					generatedIds.add(tradeRepository.save(trade).getTradeId());
+				}
+				return null;
+			}));
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : writers) {
+			future.get(2, TimeUnit.MINUTES);
+		}
+		long elapsedNanos = System.nanoTime() - begin;
+		executor.shutdown();
+
+		int total = WRITERS * INSERTS_PER_WRITER;
+		logger.info("{} insertions par {} threads en {} ms ({} insertions/s)", total, WRITERS,
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos), total * 1_000_000_000L / elapsedNanos);
+
+		// Aucun identifiant ne doit avoir été attribué deux fois
+		assertEquals(total, generatedIds.size());
+	}
+}
@@ -1,7 +1,9 @@
 package com.nnk.springboot;
 
 import com.nnk.springboot.domain.Rating;
+import com.nnk.springboot.metrics.SecondLevelCacheEndpoint;
 import com.nnk.springboot.repositories.RatingRepository;
+import com.nnk.springboot.services.RatingService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -22,6 +24,12 @@ public class RatingTests {
 	@Autowired
 	private RatingRepository ratingRepository;
 
+	@Autowired
+	private RatingService ratingService;
+
+	@Autowired
+	private SecondLevelCacheEndpoint cacheStats;
+
 	@Test
 	public void ratingTest() {
 
@@ -52,4 +60,29 @@ public class RatingTests {
 		Optional<Rating> ratingList = ratingRepository.findById(id);
 		assertFalse(ratingList.isPresent());
 	}
+
+	@Test
+	public void ratingSecondLevelCacheTest() {
+		Rating rating = new Rating();
+		rating.setMoodysRating("Cached Moodys");
+		rating.setOrderNumber(1);
+		rating = ratingService.insert(rating);
+		Integer id = rating.getId();
+
+		// Première lecture : absente du cache (évincée à l'insertion), puis servie par le cache
+		long hits = cacheStats.region("rating").hits();
+		long misses = cacheStats.region("rating").misses();
+		assertEquals("Cached Moodys", ratingService.findRating(id).getMoodysRating());
+		assertEquals(misses + 1, cacheStats.region("rating").misses());
+		assertEquals("Cached Moodys", ratingService.findRating(id).getMoodysRating());
+		assertEquals(hits + 1, cacheStats.region("rating").hits());
+
+		// La mise à jour évince l'entrée : la lecture suivante voit la nouvelle valeur
+		rating.setMoodysRating("Updated Moodys");
+		ratingService.insert(rating);
+		assertEquals("Updated Moodys", ratingService.findRating(id).getMoodysRating());
+
+		ratingService.delete(rating);
+		assertNull(ratingService.findRating(id));
+	}
 }
@@ -1,7 +1,13 @@
 package com.nnk.springboot;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.dto.ImportReport;
+import com.nnk.springboot.pagination.Paginator;
 import com.nnk.springboot.repositories.TradeRepository;
+import com.nnk.springboot.services.impl.TradeServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -9,11 +15,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.StringReader;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -22,6 +32,18 @@ public class TradeTests {
 	@Autowired
 	private TradeRepository tradeRepository;
 
+	@Autowired
+	private Paginator paginator;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	@Test
 	public void tradeTest() {
 
@@ -52,4 +74,31 @@ public class TradeTests {
 		Optional<Trade> tradeList = tradeRepository.findById(id);
 		assertFalse(tradeList.isPresent());
 	}
+
+	/**
+	 * Un lot refusé par la base est repris ligne par ligne : seule la ligne fautive est rejetée.
+	 * La validation de l'import est neutralisée : le compte trop long n'est refusé qu'à l'enregistrement.
+	 */
+	@Test
+	public void importRetriesRejectedChunkRowByRow() {
+		TradeServiceImpl tradeService = new TradeServiceImpl(tradeRepository, paginator, mock(Validator.class),
+				entityManager, transactionManager, objectMapper);
+		ReflectionTestUtils.setField(tradeService, "importChunkSize", 10);
+		ReflectionTestUtils.setField(tradeService, "maxReportedErrors", 10);
+		String csv = "account,type\n"
+				+ "Retry Account 1,Type\n"
+				+ "Retry Account 2 with a name longer than the column,Type\n"
+				+ "Retry Account 3,Type\n";
+
+		ImportReport report = tradeService.importCsv(new StringReader(csv));
+
+		assertEquals(2, report.getImported());
+		assertEquals(1, report.getRejected());
+		assertEquals(3, report.getErrors().get(0).line());
+		List<Trade> imported = tradeRepository.findAll().stream()
+				.filter(trade -> trade.getAccount().startsWith("Retry Account"))
+				.toList();
+		assertEquals(List.of("Retry Account 1", "Retry Account 3"), imported.stream().map(Trade::getAccount).sorted().toList());
+		tradeRepository.deleteAll(imported);
+	}
 }
@@ -0,0 +1,54 @@
+package com.nnk.springboot.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de la calibration de la force BCrypt, avec des durées de hachage simulées.
+ */
+class BCryptStrengthCalibratorTests {
+
+    @Test
+    @DisplayName("La force retenue est celle dont la durée estimée est la plus proche de la cible")
+    void calibrateTest() {
+        // 10 ms en force 10 : 20 ms en force 11, 40 ms en 12, 80 ms en 13, 160 ms en 14
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(100), 10, 16,
+                strength -> TimeUnit.MILLISECONDS.toNanos(10));
+
+        int strength = calibrator.calibrate();
+
+        assertEquals(13, strength);
+        assertEquals(Duration.ofMillis(80), calibrator.estimate(strength));
+    }
+
+    @Test
+    @DisplayName("La médiane des mesures écarte un hachage anormalement lent, chauffe non comptée")
+    void medianTest() {
+        long[] durations = {500, 10, 300, 10};
+        AtomicInteger call = new AtomicInteger();
+        BCryptStrengthCalibrator calibrator = new BCryptStrengthCalibrator(Duration.ofMillis(40), 10, 16,
+                strength -> TimeUnit.MILLISECONDS.toNanos(durations[call.getAndIncrement()]));
+
+        assertEquals(12, calibrator.calibrate());
+        assertEquals(4, call.get());
+    }
+
+    @Test
+    @DisplayName("La force retenue reste dans les bornes configurées")
+    void boundsTest() {
+        BCryptStrengthCalibrator slow = new BCryptStrengthCalibrator(Duration.ofMillis(100), 10, 14,
+                strength -> TimeUnit.SECONDS.toNanos(1));
+        BCryptStrengthCalibrator fast = new BCryptStrengthCalibrator(Duration.ofMillis(100), 10, 14,
+                strength -> 1_000);
+
+        assertEquals(10, slow.calibrate());
+        assertEquals(14, fast.calibrate());
+        assertThrows(IllegalArgumentException.class, () -> new BCryptStrengthCalibrator(Duration.ofMillis(100), 12, 10));
+    }
+}
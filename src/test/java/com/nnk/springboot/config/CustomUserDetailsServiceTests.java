@@ -1,12 +1,17 @@
 package com.nnk.springboot.config;
 
 import com.nnk.springboot.domain.User;
+import com.nnk.springboot.repositories.UserRepository;
 import com.nnk.springboot.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,6 +35,18 @@ class CustomUserDetailsServiceTests {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private DaoAuthenticationProvider authenticationProvider;
+
     private User testUser;
 
     @BeforeEach
@@ -68,4 +85,37 @@ class CustomUserDetailsServiceTests {
                 () -> customUserDetailsService.loadUserByUsername("inexistantUser")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("loadUserByUsername() - deuxième chargement servi par le cache, mise à jour -> cache vidé")
+    void testLoadUserByUsername_Cached() {
+        UserDetails first = customUserDetailsService.loadUserByUsername("john.doe");
+        long hits = userDetailsCache.statistics().hits();
+
+        UserDetails second = customUserDetailsService.loadUserByUsername("john.doe");
+        assertEquals(hits + 1, userDetailsCache.statistics().hits());
+        assertEquals(first.getPassword(), second.getPassword());
+        assertSame(first.getAuthorities().iterator().next(), second.getAuthorities().iterator().next());
+
+        testUser.setPassword("newPassword456");
+        userService.update(testUser);
+
+        UserDetails updated = customUserDetailsService.loadUserByUsername("john.doe");
+        assertEquals(hits + 1, userDetailsCache.statistics().hits());
+        assertNotEquals(first.getPassword(), updated.getPassword());
+    }
+
+    @Test
+    @DisplayName("Connexion avec un mot de passe haché en force 4 -> mot de passe réencodé avec la force courante")
+    void testUpdatePassword_UpgradeOnLogin() {
+        userService.updateEncodedPassword("john.doe", new BCryptPasswordEncoder(4).encode("secret"));
+
+        authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("john.doe", "secret"));
+
+        String stored = userRepository.findByUsername("john.doe").orElseThrow().getPassword();
+        assertFalse(stored.startsWith("$2a$04$"));
+        assertFalse(passwordEncoder.upgradeEncoding(stored));
+        assertTrue(passwordEncoder.matches("secret", stored));
+        assertEquals(stored, customUserDetailsService.loadUserByUsername("john.doe").getPassword());
+    }
+}
@@ -0,0 +1,83 @@
+package com.nnk.springboot.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de l'exécuteur de hachage, avec un encodeur simulé.
+ */
+class PasswordHashingExecutorTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    private final PasswordEncoder encoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            threads.add(Thread.currentThread().getName());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Les hachages d'un lot sont répartis sur les threads et rendus dans l'ordre")
+    void encodeAllTest() {
+        executor = new PasswordHashingExecutor(encoder, 4, 4);
+        release.countDown();
+        List<String> passwords = IntStream.range(0, 10).mapToObj(i -> "pw" + i).toList();
+
+        List<String> hashes = executor.encodeAll(passwords);
+
+        assertEquals(passwords.stream().map(pw -> "hash:" + pw).toList(), hashes);
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("password-hashing-")));
+        assertEquals(10, executor.statistics().hashed());
+        assertEquals(0, executor.statistics().rejected());
+    }
+
+    @Test
+    @DisplayName("File pleine : le hachage est refusé au lieu d'attendre")
+    void rejectTest() {
+        executor = new PasswordHashingExecutor(encoder, 1, 1);
+        CompletableFuture<String> running = executor.encodeAsync("a");
+        CompletableFuture<String> queued = executor.encodeAsync("b");
+
+        assertThrows(RejectedExecutionException.class, () -> executor.encode("c"));
+        assertEquals(1, executor.statistics().rejected());
+
+        release.countDown();
+        assertEquals("hash:a", running.join());
+        assertEquals("hash:b", queued.join());
+    }
+}
@@ -0,0 +1,159 @@
+package com.nnk.springboot.config;
+
+import com.nnk.springboot.pagination.PageCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du routage lecture / écriture avec deux bases H2 en mémoire jouant les rôles de base primaire
+ * et de réplica. Chaque base contient une table {@code marker} qui indique la base interrogée.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        ReadWriteRoutingDataSource routing =
+                new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(5), now::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Les transactions en lecture seule sont routées vers le réplica")
+    void readOnlyTransactionUsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Les transactions en écriture et les accès hors transaction utilisent la base primaire")
+    void readWriteTransactionUsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase());
+    }
+
+    @Test
+    @DisplayName("Un utilisateur lit ses propres écritures sur la base primaire pendant la fenêtre")
+    void readYourWritesStickiness() {
+        authenticate("writer");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update marker set hits = hits + 1"));
+
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+        // Un autre utilisateur n'est pas concerné
+        authenticate("reader");
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+
+        // Fin de la fenêtre : retour sur le réplica
+        authenticate("writer");
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Une transaction en écriture annulée ne rend pas l'utilisateur collant")
+    void rolledBackWriteIsNotSticky() {
+        authenticate("writer");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("update marker set hits = hits + 1");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    @DisplayName("Une page lue sur le réplica après une écriture n'est pas mise en cache")
+    void replicaPageIsNotCached() {
+        PageCache pageCache = new PageCache(true, 10, 20, 10);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        authenticate("writer");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("update marker set hits = hits + 1");
+            pageCache.invalidate(String.class);
+        });
+
+        // Le réplica n'a pas encore reçu l'écriture : la page lue est en retard et n'est pas conservée
+        authenticate("reader");
+        assertEquals(List.of("replica:0"), readOnly.execute(status -> pageCache.get(String.class, pageable, this::page)).getContent());
+        assertFalse(ReadWriteRoutingDataSource.isReplicaRead());
+        replicaCatchesUp();
+        assertEquals(List.of("replica:1"), readOnly.execute(status -> pageCache.get(String.class, pageable, this::page)).getContent());
+
+        // L'auteur de l'écriture lit sur la base primaire : sa page est mise en cache et servie ensuite
+        authenticate("writer");
+        assertEquals(List.of("primary:1"), readOnly.execute(status -> pageCache.get(String.class, pageable, this::page)).getContent());
+        authenticate("reader");
+        assertEquals(List.of("primary:1"), readOnly.execute(status -> pageCache.get(String.class, pageable, this::page)).getContent());
+        assertEquals(1, pageCache.statistics().get("String").hits());
+    }
+
+    private Slice<String> page() {
+        String row = jdbcTemplate.queryForObject("select name || ':' || hits from marker", String.class);
+        return new SliceImpl<>(List.of(row));
+    }
+
+    private static void replicaCatchesUp() {
+        new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1", "sa", ""))
+                .update("update marker set hits = hits + 1");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, "n/a", List.of()));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists marker (name varchar(16), hits int)");
+        jdbc.update("delete from marker");
+        jdbc.update("insert into marker (name, hits) values (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,89 @@
+package com.nnk.springboot.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires du cache des utilisateurs, avec une horloge contrôlée.
+ */
+class UserDetailsCacheTests {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final UserDetailsCache cache = new UserDetailsCache(true, Duration.ofMinutes(5), 2, now::get);
+
+    @Test
+    @DisplayName("Une entrée expire après la durée de vie")
+    void ttlTest() {
+        cache.putUserInCache(user("alice"));
+
+        now.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertNotNull(cache.getUserFromCache("alice"));
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertNull(cache.getUserFromCache("alice"));
+        assertEquals(0, cache.statistics().entries());
+    }
+
+    @Test
+    @DisplayName("Au-delà du nombre maximal d'entrées, l'utilisateur le moins récemment lu est évincé")
+    void lruTest() {
+        cache.putUserInCache(user("alice"));
+        cache.putUserInCache(user("bob"));
+        cache.getUserFromCache("alice");
+        cache.putUserInCache(user("carol"));
+
+        assertNotNull(cache.getUserFromCache("alice"));
+        assertNull(cache.getUserFromCache("bob"));
+        assertNotNull(cache.getUserFromCache("carol"));
+    }
+
+    @Test
+    @DisplayName("L'effacement des identifiants d'une copie lue ne modifie pas l'entrée en cache")
+    void copyTest() {
+        cache.putUserInCache(user("alice"));
+
+        UserDetails read = cache.getUserFromCache("alice");
+        ((CredentialsContainer) read).eraseCredentials();
+
+        assertNull(read.getPassword());
+        assertEquals("{noop}secret", cache.getUserFromCache("alice").getPassword());
+    }
+
+    @Test
+    @DisplayName("invalidateAll() vide le cache ; un cache désactivé ne conserve rien")
+    void invalidateTest() {
+        cache.putUserInCache(user("alice"));
+        cache.invalidateAll();
+        assertNull(cache.getUserFromCache("alice"));
+
+        UserDetailsCache disabled = new UserDetailsCache(false, Duration.ofMinutes(5), 2, now::get);
+        disabled.putUserInCache(user("alice"));
+        assertNull(disabled.getUserFromCache("alice"));
+    }
+
+    @Test
+    @DisplayName("Un chargement commencé avant un vidage ne remet pas l'ancien utilisateur en cache")
+    void staleLoadTest() {
+        long epoch = cache.epoch();
+        // Écriture concurrente pendant la lecture en base
+        cache.invalidateAll();
+        cache.putUserInCache(user("alice"), epoch);
+        assertNull(cache.getUserFromCache("alice"));
+
+        cache.putUserInCache(user("alice"), cache.epoch());
+        assertNotNull(cache.getUserFromCache("alice"));
+    }
+
+    private static UserDetails user(String username) {
+        return User.withUsername(username).password("{noop}secret").roles("USER").build();
+    }
+}
@@ -0,0 +1,183 @@
+package com.nnk.springboot.controller;
+
+import com.nnk.springboot.domain.BidList;
+import com.nnk.springboot.domain.Rating;
+import com.nnk.springboot.domain.Trade;
+import com.nnk.springboot.domain.User;
+import com.nnk.springboot.repositories.BidListRepository;
+import com.nnk.springboot.repositories.RatingRepository;
+import com.nnk.springboot.repositories.TradeRepository;
+import com.nnk.springboot.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests d'intégration de l'API REST {@code /api/v1} : pagination, sélection des champs, lecture groupée
+ * par identifiants et sécurité.
+ */
+@SpringBootTest
+@Transactional
+public class ApiControllerTests {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private BidListRepository bidListRepository;
+
+    @Autowired
+    private TradeRepository tradeRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private UserService userService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    /**
+     * Exécute une requête dont la réponse est écrite en flux (traitement asynchrone).
+     */
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    @Test
+    @WithMockUser
+    public void testPagination() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            BidList bid = new BidList();
+            bid.setAccount("Api Account " + i);
+            bid.setType("Api Type");
+            bid.setBidQuantity(10d);
+            bidListRepository.save(bid);
+        }
+
+        perform(get("/api/v1/bidlists").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].bidListId").isNumber())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/v1/bidlists").param("size", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bidlists").param("size", "100000")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    public void testAllEntities() throws Exception {
+        for (String path : List.of("bidlists", "curvepoints", "ratings", "rulenames", "trades")) {
+            perform(get("/api/v1/" + path))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content").isArray());
+        }
+    }
+
+    @Test
+    @WithMockUser
+    public void testFieldsAndIds() throws Exception {
+        Trade first = new Trade();
+        first.setAccount("Api Account 1");
+        first.setType("Api Type");
+        first.setBuyQuantity(10d);
+        Trade second = new Trade();
+        second.setAccount("Api Account 2");
+        second.setType("Api Type");
+        second.setBuyQuantity(20d);
+        List<Trade> trades = tradeRepository.saveAll(List.of(first, second));
+
+        perform(get("/api/v1/trades")
+                .param("ids", trades.get(1).getTradeId() + "," + trades.get(0).getTradeId() + ",-1")
+                .param("fields", "tradeId,account"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].tradeId").value(trades.get(0).getTradeId()))
+                .andExpect(jsonPath("$[0].account").value("Api Account 1"))
+                .andExpect(jsonPath("$[0].*", hasSize(2)))
+                .andExpect(jsonPath("$[1].account").value("Api Account 2"));
+
+        mockMvc.perform(get("/api/v1/trades").param("fields", "tradeId,unknown"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    public void testSingle() throws Exception {
+        Rating rating = new Rating();
+        rating.setMoodysRating("Aaa");
+        rating.setSandPRating("AAA");
+        rating.setFitchRating("AAA");
+        rating.setOrderNumber(1);
+        rating = ratingRepository.save(rating);
+
+        perform(get("/api/v1/ratings/" + rating.getId()).param("fields", "id,moodysRating"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(rating.getId()))
+                .andExpect(jsonPath("$.moodysRating").value("Aaa"))
+                .andExpect(jsonPath("$.fitchRating").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/ratings/" + Integer.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void testUsersWithoutPassword() throws Exception {
+        User user = new User();
+        user.setUsername("api.user");
+        user.setPassword("Password1!");
+        user.setFullname("Api User");
+        user.setRole("USER");
+        user = userService.insert(user);
+
+        perform(get("/api/v1/users/" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("api.user"))
+                .andExpect(jsonPath("$.password").doesNotExist());
+
+        perform(get("/api/v1/users").param("ids", String.valueOf(user.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].password").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/users").param("fields", "username,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testSecurity() throws Exception {
+        mockMvc.perform(get("/api/v1/trades")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser
+    public void testUsersReservedToAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/users")).andExpect(status().isForbidden());
+    }
+}
@@ -74,6 +74,32 @@ public class BidListControllerTests {
                 .andExpect(model().attributeExists("bidLists"));
     }
 
+    /**
+     * Teste la navigation par curseur sur la liste paginée.
+     */
+    @Test
+    @WithMockUser
+    public void testShowBidListListPageWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            BidList row = new BidList();
+            row.setAccount("Cursor Account " + i);
+            row.setType("Cursor Type");
+            bidListService.insert(row);
+        }
+
+        String nextCursor = (String) mockMvc.perform(get("/bidList/list").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("bidLists", hasSize(2)))
+                .andExpect(model().attribute("previousCursor", nullValue()))
+                .andReturn().getModelAndView().getModel().get("nextCursor");
+        assertNotNull(nextCursor);
+
+        mockMvc.perform(get("/bidList/list").param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("bidLists", not(empty())))
+                .andExpect(model().attribute("previousCursor", notNullValue()));
+    }
+
     @Test
     @WithMockUser
     public void testAddBidListForm() throws Exception {
@@ -157,4 +183,23 @@ public class BidListControllerTests {
         assertFalse(bidListService.existsById(id));
     }
 
-}
\ No newline at end of file
+    /**
+     * Teste la suppression groupée : une seule requête pour les éléments sélectionnés.
+     */
+    @Test
+    @WithMockUser
+    public void testDeleteBidLists() throws Exception {
+        BidList savedBidList = bidListService.insert(testBidList);
+        int id = savedBidList.getBidListId();
+
+        mockMvc.perform(post("/bidList/delete")
+                        .param("ids", String.valueOf(id), String.valueOf(Integer.MAX_VALUE))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/bidList/list"));
+
+        assertFalse(bidListService.existsById(id));
+        assertFalse(bidListService.deleteById(id));
+        assertEquals(0, bidListService.deleteByIds(List.of()));
+    }
+}
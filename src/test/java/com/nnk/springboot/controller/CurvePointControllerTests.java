@@ -152,4 +152,23 @@ public class CurvePointControllerTests {
         assertFalse(curvePointService.existsById(id));
     }
 
-}
\ No newline at end of file
+    /**
+     * Teste la suppression groupée : une seule requête pour les éléments sélectionnés.
+     */
+    @Test
+    @WithMockUser
+    public void testDeleteCurvePoints() throws Exception {
+        CurvePoint savedCurvePoint = curvePointService.insert(testCurvePoint);
+        int id = savedCurvePoint.getId();
+
+        mockMvc.perform(post("/curvePoint/delete")
+                        .param("ids", String.valueOf(id), String.valueOf(Integer.MAX_VALUE))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/curvePoint/list"));
+
+        assertFalse(curvePointService.existsById(id));
+        assertFalse(curvePointService.deleteById(id));
+        assertEquals(0, curvePointService.deleteByIds(List.of()));
+    }
+}
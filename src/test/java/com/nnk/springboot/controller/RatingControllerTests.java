@@ -156,4 +156,23 @@ public class RatingControllerTests {
         assertFalse(ratingService.existsById(id));
     }
 
-}
\ No newline at end of file
+    /**
+     * Teste la suppression groupée : une seule requête pour les éléments sélectionnés.
+     */
+    @Test
+    @WithMockUser
+    public void testDeleteRatings() throws Exception {
+        Rating savedRating = ratingService.insert(testRating);
+        int id = savedRating.getId();
+
+        mockMvc.perform(post("/rating/delete")
+                        .param("ids", String.valueOf(id), String.valueOf(Integer.MAX_VALUE))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/rating/list"));
+
+        assertFalse(ratingService.existsById(id));
+        assertFalse(ratingService.deleteById(id));
+        assertEquals(0, ratingService.deleteByIds(List.of()));
+    }
+}
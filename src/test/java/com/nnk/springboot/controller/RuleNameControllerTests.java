@@ -163,4 +163,23 @@ public class RuleNameControllerTests {
         assertFalse(ruleNameService.existsById(id));
     }
 
-}
\ No newline at end of file
+    /**
+     * Teste la suppression groupée : une seule requête pour les éléments sélectionnés.
+     */
+    @Test
+    @WithMockUser
+    public void testDeleteRuleNames() throws Exception {
+        RuleName savedRuleName = ruleNameService.insert(testRuleName);
+        int id = savedRuleName.getId();
+
+        mockMvc.perform(post("/ruleName/delete")
+                        .param("ids", String.valueOf(id), String.valueOf(Integer.MAX_VALUE))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/ruleName/list"));
+
+        assertFalse(ruleNameService.existsById(id));
+        assertFalse(ruleNameService.deleteById(id));
+        assertEquals(0, ruleNameService.deleteByIds(List.of()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.nnk.springboot.controller;
+
+import com.nnk.springboot.repositories.RatingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@Transactional
+public class SqlMonitorControllerTests {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    private MockMvc mockMvc;
+
+    /**
+     * Initialise MockMvc avant chaque test.
+     */
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    /**
+     * Teste l'affichage des requêtes SQL mesurées.
+     */
+    @Test
+    public void testSqlStatements() throws Exception {
+        ratingRepository.count();
+
+        mockMvc.perform(get("/admin/sql"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("admin/sql"))
+                .andExpect(model().attributeExists("statements", "slowThresholdMillis"))
+                .andExpect(content().string(containsString("from rating")));
+    }
+
+    /**
+     * Teste la réinitialisation des mesures.
+     */
+    @Test
+    public void testResetSqlStatements() throws Exception {
+        mockMvc.perform(post("/admin/sql/reset"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/sql"));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -16,6 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 
+import com.nnk.springboot.dto.ExportFormat;
+import com.nnk.springboot.dto.ImportReport;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,6 +82,32 @@ public class TradeControllerTests {
                 .andExpect(model().attributeExists("trades"));
     }
 
+    /**
+     * Teste la navigation par curseur sur la liste paginée.
+     */
+    @Test
+    @WithMockUser
+    public void testShowTradeListPageWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Trade row = new Trade();
+            row.setAccount("Cursor Account " + i);
+            row.setType("Cursor Type");
+            tradeService.insert(row);
+        }
+
+        String nextCursor = (String) mockMvc.perform(get("/trade/list").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("trades", hasSize(2)))
+                .andExpect(model().attribute("previousCursor", nullValue()))
+                .andReturn().getModelAndView().getModel().get("nextCursor");
+        assertNotNull(nextCursor);
+
+        mockMvc.perform(get("/trade/list").param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("trades", not(empty())))
+                .andExpect(model().attribute("previousCursor", notNullValue()));
+    }
+
     @Test
     @WithMockUser
     public void testAddTradeForm() throws Exception {
@@ -152,4 +186,98 @@ public class TradeControllerTests {
         assertFalse(tradeService.existsById(id));
     }
 
-}
\ No newline at end of file
+    /**
+     * Teste l'import CSV : les lignes valides sont enregistrées, les lignes invalides rapportées.
+     */
+    @Test
+    @WithMockUser
+    public void testImportTrades() throws Exception {
+        String csv = "account,type,buy_quantity,tradeDate\n"
+                + "Import Account 1,Type,10,2024-01-15 10:30:00\n"
+                + ",Type,5,\n"
+                + "Import Account 2,Type,abc,\n"
+                + "\"Import, Account 3\",Type,,2024-01-15T11:00:00\n";
+        MockMultipartFile file = new MockMultipartFile("file", "trades.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        ImportReport report = (ImportReport) mockMvc.perform(multipart("/trade/import").file(file).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("trade/import"))
+                .andReturn().getModelAndView().getModel().get("report");
+
+        assertNotNull(report);
+        assertEquals(4, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertThat(report.getErrors(), hasSize(2));
+        assertEquals(3, report.getErrors().get(0).line());
+        assertThat(report.getErrors().get(0).message(), containsString("account"));
+        assertEquals(4, report.getErrors().get(1).line());
+        assertThat(tradeService.findAllTrade().stream().map(Trade::getAccount).toList(),
+                hasItems("Import Account 1", "Import, Account 3"));
+    }
+
+    /**
+     * Teste l'export : la réponse est produite en flux avec le type de contenu du format demandé.
+     */
+    @Test
+    @WithMockUser
+    public void testExportTrades() throws Exception {
+        MvcResult result = mockMvc.perform(get("/trade/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Sans limite de durée pour l'export seulement
+        assertEquals(-1, result.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("trades.csv")))
+                .andExpect(content().string(startsWith("tradeId,account,type,")));
+
+        mockMvc.perform(get("/trade/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Teste le contenu de l'export CSV et JSON.
+     */
+    @Test
+    public void testExportTradesContent() throws Exception {
+        testTrade.setAccount("Export, \"Account\"");
+        Trade savedTrade = tradeService.insert(testTrade);
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        long count = tradeService.exportTrades(ExportFormat.CSV, csv);
+        assertTrue(count >= 1);
+        assertThat(csv.toString(StandardCharsets.UTF_8),
+                containsString(savedTrade.getTradeId() + ",\"Export, \"\"Account\"\"\",Type,"));
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        assertEquals(count, tradeService.exportTrades(ExportFormat.JSON, json));
+        String body = json.toString(StandardCharsets.UTF_8);
+        assertThat(body, startsWith("["));
+        assertThat(body, endsWith("]"));
+        assertThat(body, containsString("\"tradeId\":" + savedTrade.getTradeId()));
+    }
+
+    /**
+     * Teste la suppression groupée : une seule requête pour les éléments sélectionnés.
+     */
+    @Test
+    @WithMockUser
+    public void testDeleteTrades() throws Exception {
+        Trade savedTrade = tradeService.insert(testTrade);
+        int id = savedTrade.getTradeId();
+
+        mockMvc.perform(post("/trade/delete")
+                        .param("ids", String.valueOf(id), String.valueOf(Integer.MAX_VALUE))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/trade/list"));
+
+        assertFalse(tradeService.existsById(id));
+        assertFalse(tradeService.deleteById(id));
+        assertEquals(0, tradeService.deleteByIds(List.of()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.nnk.springboot.controller;
 
+import com.nnk.springboot.controllers.OverloadExceptionHandler;
+import com.nnk.springboot.controllers.UserController;
 import com.nnk.springboot.domain.User;
 import com.nnk.springboot.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,14 +14,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -90,25 +100,35 @@ public class UserControllerTests {
                 .andExpect(model().attributeExists("user"));
     }
 
+    /**
+     * Teste la création : l'utilisateur est enregistré de façon asynchrone, dans sa propre transaction
+     * (le test ne s'exécute donc pas dans une transaction annulée à la fin, et supprime l'utilisateur créé).
+     */
     @Test
     @WithMockUser
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void testValidate() throws Exception {
 
         BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
         String pw = encoder.encode("123456");
         // Effectuer une requête POST sur /user/validate avec des paramètres valides
-        mockMvc.perform(post("/user/validate")
-                        .param("username", "Toto")
+        MvcResult result = mockMvc.perform(post("/user/validate")
+                        .param("username", "Toto.validate")
                         .param("role", "USER")
                         .param("fullname", "TOTO Toto")
                         .param("password", pw)
                         .with(csrf())) // Si la protection CSRF est activée
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/user/list"));
 
         // Vérifier que le User a été ajouté en base de données
         List<User> users = userService.findAllUsers();
-        assertThat(users, hasItem(hasProperty("username", is("Toto"))));
+        assertThat(users, hasItem(hasProperty("username", is("Toto.validate"))));
+        users.stream().filter(user -> "Toto.validate".equals(user.getUsername()))
+                .forEach(user -> userService.deleteById(user.getId()));
     }
 
 
@@ -129,20 +149,24 @@ public class UserControllerTests {
 
     @Test
     @WithMockUser
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void testUpdateUser() throws Exception {
-        // Enregistrer un User pour le test
+        // Enregistrer un User pour le test (validé : la mise à jour asynchrone s'exécute dans sa propre transaction)
         User savedUser = userService.insert(testUser);
 
         BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
         String pw = encoder.encode("78910");
 
         // Effectuer une requête POST sur /user/update/{id} avec des données mises à jour
-        mockMvc.perform(post("/user/update/" + savedUser.getId())
+        MvcResult result = mockMvc.perform(post("/user/update/" + savedUser.getId())
                         .param("username", "Toto")
                         .param("role", "USER")
                         .param("fullname", "TOTO Titi")
                         .param("password",pw)
                         .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/user/list"));
 
@@ -150,6 +174,7 @@ public class UserControllerTests {
         User updatedUser = userService.findUser(savedUser.getId());
         assertNotNull(updatedUser);
         assertThat(updatedUser.getFullname(), is("TOTO Titi"));
+        userService.deleteById(savedUser.getId());
     }
 
     @Test
@@ -168,4 +193,47 @@ public class UserControllerTests {
         assertFalse(userService.existsById(id));
     }
 
-}
\ No newline at end of file
+    /**
+     * Teste la suppression groupée : une seule requête pour les éléments sélectionnés.
+     */
+    @Test
+    @WithMockUser
+    public void testDeleteUsers() throws Exception {
+        User savedUser = userService.insert(testUser);
+        int id = savedUser.getId();
+
+        mockMvc.perform(post("/user/delete")
+                        .param("ids", String.valueOf(id), String.valueOf(Integer.MAX_VALUE))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/user/list"));
+
+        assertFalse(userService.existsById(id));
+        assertFalse(userService.deleteById(id));
+        assertEquals(0, userService.deleteByIds(List.of()));
+    }
+
+    /**
+     * Teste le refus d'une création, file de hachage pleine : 503 avec Retry-After, pas une erreur 500.
+     */
+    @Test
+    public void testValidateWhenHashingQueueFull() throws Exception {
+        UserService saturated = mock(UserService.class);
+        when(saturated.insertAsync(any())).thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("file pleine")));
+        MockMvc standalone = MockMvcBuilders.standaloneSetup(new UserController(saturated))
+                .setControllerAdvice(new OverloadExceptionHandler(Duration.ofSeconds(5)))
+                .build();
+
+        MvcResult result = standalone.perform(post("/user/validate")
+                        .param("username", "Toto")
+                        .param("role", "USER")
+                        .param("fullname", "TOTO Toto")
+                        .param("password", "Password1!"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        standalone.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(view().name("error/503"));
+    }
+}
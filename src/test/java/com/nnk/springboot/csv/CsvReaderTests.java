@@ -0,0 +1,40 @@
+package com.nnk.springboot.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de {@link CsvReader}.
+ */
+class CsvReaderTests {
+
+    @Test
+    @DisplayName("Champs simples, guillemets, séparateur et saut de ligne dans un champ")
+    void testReadRecords() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "a,b,c\r\n\"x,1\",\"say \"\"hi\"\"\",\n\n\"multi\nline\",2,3"));
+
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("x,1", "say \"hi\"", ""), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertEquals(List.of("multi\nline", "2", "3"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("Guillemet non fermé -> IOException")
+    void testUnclosedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a\n\"open,b"));
+
+        assertEquals(List.of("a"), reader.readRecord());
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
@@ -0,0 +1,101 @@
+package com.nnk.springboot.datagen;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du générateur de données de marché sur des bases H2 en mémoire migrées par Flyway.
+ * <p>
+ * Les insertions concurrentes dans une colonne auto-incrémentée H2 provoquent par intermittence des
+ * collisions de clé propres à H2 : les soumissions ({@code bidlist}) ne sont générées qu'avec un seul thread.
+ */
+class MarketDataGeneratorTests {
+
+    private static final String TRADES = "select account, type, buy_quantity, sell_quantity, buy_price, sell_price, "
+            + "trade_date, security, trader, book from trade order by trade_id";
+
+    private static final String CURVE_POINTS = "select curve_id, as_of_date, term, value from curvepoint order by id";
+
+    @Test
+    @DisplayName("Génération : nombre de lignes et identifiants réservés dans les tables de séquence")
+    void generateTest() {
+        DataSource dataSource = database("datagen_counts");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        MarketDataGenerator.Report report = new MarketDataGenerator(dataSource, settings(42, 1, 2_500)).generate();
+
+        assertEquals(Map.of("rating", 21L, "rulename", 30L, "curvepoint", 240L, "bidlist", 2_500L, "trade", 2_500L),
+                report.rows());
+        assertEquals(2_500, jdbc.queryForObject("select count(*) from trade", Long.class));
+        assertEquals(2_500, jdbc.queryForObject("select count(*) from bidlist", Long.class));
+        assertEquals(20, jdbc.queryForObject("select count(distinct curve_id) from curvepoint", Long.class));
+        assertEquals(jdbc.queryForObject("select max(trade_id) + 1 from trade", Long.class),
+                jdbc.queryForObject("select next_val from trade_seq", Long.class));
+        assertEquals(jdbc.queryForObject("select max(id) + 1 from rating", Long.class),
+                jdbc.queryForObject("select next_val from rating_seq", Long.class));
+        assertTrue(jdbc.queryForObject("select count(distinct account) from trade", Long.class) <= 50);
+    }
+
+    @Test
+    @DisplayName("Même graine : même contenu, quel que soit le nombre de threads")
+    void deterministicTest() {
+        DataSource single = database("datagen_single");
+        DataSource parallel = database("datagen_parallel");
+        DataSource other = database("datagen_other");
+
+        new MarketDataGenerator(single, settings(7, 1, 0)).generate();
+        new MarketDataGenerator(parallel, settings(7, 4, 0)).generate();
+        new MarketDataGenerator(other, settings(8, 4, 0)).generate();
+
+        List<Map<String, Object>> trades = new JdbcTemplate(single).queryForList(TRADES);
+        assertEquals(trades, new JdbcTemplate(parallel).queryForList(TRADES));
+        assertEquals(new JdbcTemplate(single).queryForList(CURVE_POINTS),
+                new JdbcTemplate(parallel).queryForList(CURVE_POINTS));
+        assertNotEquals(trades, new JdbcTemplate(other).queryForList(TRADES));
+    }
+
+    @Test
+    @DisplayName("Loi de Zipf : le premier rang domine, un exposant nul donne une loi uniforme")
+    void zipfSkewTest() {
+        int[] skewed = histogram(new ZipfSampler(100, 1.1), 100_000);
+        int[] uniform = histogram(new ZipfSampler(100, 0), 100_000);
+
+        assertTrue(skewed[0] > 15_000, "rang 0 : " + skewed[0]);
+        assertTrue(skewed[0] > 10 * skewed[50]);
+        for (int count : uniform) {
+            assertTrue(count > 800 && count < 1_200, "effectif uniforme : " + count);
+        }
+    }
+
+    private static int[] histogram(ZipfSampler sampler, int draws) {
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[sampler.cardinality()];
+        for (int i = 0; i < draws; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        return counts;
+    }
+
+    private static GeneratorSettings settings(long seed, int threads, long bidLists) {
+        return new GeneratorSettings(seed, threads, 100, bidLists, 2_500, 20, 12, 21, 30,
+                50, 5, 10, 200, 1.1, LocalDate.of(2024, 12, 31), 30);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        return dataSource;
+    }
+}
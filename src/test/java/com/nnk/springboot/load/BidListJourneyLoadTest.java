@@ -0,0 +1,323 @@
+package com.nnk.springboot.load;
+
+import com.nnk.springboot.pagination.Cursor;
+import com.nnk.springboot.repositories.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static com.nnk.springboot.load.LoadTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test de charge HTTP du parcours utilisateur des soumissions, sur l'application démarrée sur un port
+ * aléatoire avec une base H2 en mémoire.
+ * <p>
+ * Chaque utilisateur virtuel enchaîne en boucle des sessions complètes : page de connexion, connexion,
+ * liste (première et deuxième page), formulaire d'ajout et ajout, recherche de la soumission créée sur
+ * la dernière page, formulaire de modification et modification, suppression. Le cookie de session et le
+ * jeton CSRF des formulaires sont gérés comme par un navigateur ; les redirections ne sont pas suivies,
+ * chaque requête est mesurée séparément.
+ * <p>
+ * Exclu de la suite par défaut (tag {@code load}) ; lancement et paramètres :
+ * <pre>
+ * mvn -P load-test test -Dload.users=16 -Dload.duration=60s
+ * </pre>
+ * Le débit et les percentiles de latence par étape sont journalisés et écrits dans
+ * {@code target/load-test/bidlist-journey.csv}.
+ *
+ * @see LoadTestSupport
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "logging.level.com.nnk.springboot=WARN",
+        "app.security.login-throttle.enabled=false"})
+class BidListJourneyLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidListJourneyLoadTest.class);
+
+    private static final String LAST_PAGE = Cursor.before(Integer.MAX_VALUE).encode();
+
+    private static final Pattern NEXT_PAGE = Pattern.compile("href=\"/bidList/list\\?cursor=([^\"]+)\" aria-label=\"Next\"");
+
+    /** Part maximale de sessions en échec tolérée. */
+    private static final double MAX_FAILURE_RATIO = 0.01;
+
+    private final int users = Integer.getInteger("load.users", 8);
+
+    private final Duration duration = duration();
+
+    private final Duration warmup = warmup("5s");
+
+    private final Map<Step, StepStatistics> statistics = new EnumMap<>(Step.class);
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    /**
+     * Étapes du parcours, dans l'ordre d'exécution.
+     */
+    private enum Step {
+        LOGIN_PAGE, LOGIN, LIST, LIST_NEXT, ADD_FORM, ADD, FIND, UPDATE_FORM, UPDATE, DELETE
+    }
+
+    @Test
+    @DisplayName("Charge : connexion, liste, ajout, modification et suppression de soumissions")
+    void bidListJourneyTest() throws Exception {
+        seed(dataSource, userRepository, passwordEncoder, seedRows(), 0,
+                IntStream.range(0, users).mapToObj(i -> "loaduser" + i).toList());
+        for (Step step : Step.values()) {
+            statistics.put(step, new StepStatistics());
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                futures.add(executor.submit(new VirtualUser(i, measureFrom, end)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        report();
+        long sessions = completed.sum() + failed.sum();
+        assertTrue(completed.sum() > 0, "aucune session complète");
+        assertTrue(failed.sum() <= sessions * MAX_FAILURE_RATIO,
+                failed.sum() + " sessions en échec sur " + sessions);
+    }
+
+    private void report() throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%n%-12s %9s %8s %9s %9s %9s %9s %9s%n", "étape", "requêtes", "erreurs", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        List<String> csv = new ArrayList<>();
+        statistics.forEach((step, stats) -> {
+            long[] nanos = stats.sortedLatencies();
+            double throughput = nanos.length / seconds;
+            table.append(String.format(Locale.ROOT, "%-12s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n", step,
+                    nanos.length, stats.errors.sum(), throughput, percentile(nanos, 0.5), percentile(nanos, 0.9),
+                    percentile(nanos, 0.99), percentile(nanos, 1)));
+            csv.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%s", step, nanos.length, stats.errors.sum(),
+                    throughput, latencyCsv(nanos)));
+        });
+        logger.warn("Parcours BidList : {} utilisateurs, {} s mesurées, {} sessions ({} /s), {} en échec{}",
+                users, duration.toSeconds(), completed.sum(),
+                String.format(Locale.ROOT, "%.1f", completed.sum() / seconds), failed.sum(), table);
+        writeReport("bidlist-journey.csv", "step,requests,errors,throughput," + LATENCY_COLUMNS, csv);
+    }
+
+    /**
+     * Utilisateur virtuel : un client HTTP avec son propre stockage de cookies, vidé à chaque session.
+     */
+    private final class VirtualUser implements Runnable {
+
+        private final int index;
+
+        private final long measureFrom;
+
+        private final long end;
+
+        private final CookieManager cookies = new CookieManager();
+
+        private final HttpClient client;
+
+        private boolean measured;
+
+        VirtualUser(int index, long measureFrom, long end) {
+            this.index = index;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.client = client().cookieHandler(cookies).build();
+        }
+
+        @Override
+        public void run() {
+            for (long session = 0; System.nanoTime() < end; session++) {
+                measured = System.nanoTime() >= measureFrom;
+                try {
+                    journey(session);
+                    if (measured) {
+                        completed.increment();
+                    }
+                } catch (StepFailure e) {
+                    if (measured) {
+                        failed.increment();
+                        logger.debug("Session en échec : {}", e.getMessage());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void journey(long session) throws InterruptedException {
+            cookies.getCookieStore().removeAll();
+            String account = "LT-" + index + "-" + session;
+
+            String csrf = csrf(get(Step.LOGIN_PAGE, "/login"));
+            post(Step.LOGIN, "/login", loginForm("loaduser" + index, csrf), "/bidList/list");
+
+            Matcher next = NEXT_PAGE.matcher(get(Step.LIST, "/bidList/list"));
+            if (next.find()) {
+                get(Step.LIST_NEXT, "/bidList/list?cursor=" + next.group(1));
+            }
+
+            csrf = csrf(get(Step.ADD_FORM, "/bidList/add"));
+            post(Step.ADD, "/bidList/validate", bidForm(account, "100", csrf), "/bidList/list");
+
+            String id = findId(get(Step.FIND, "/bidList/list?size=20&cursor=" + LAST_PAGE), account);
+            csrf = csrf(get(Step.UPDATE_FORM, "/bidList/update/" + id));
+            post(Step.UPDATE, "/bidList/update/" + id, bidForm(account, "200", csrf), "/bidList/list");
+
+            expectRedirect(Step.DELETE, send(Step.DELETE, request("/bidList/delete/" + id).GET()), "/bidList/list");
+        }
+
+        private String get(Step step, String path) throws InterruptedException {
+            HttpResponse<String> response = send(step, request(path).GET());
+            if (response.statusCode() != 200) {
+                throw failure(step, "statut " + response.statusCode() + " pour " + path);
+            }
+            return response.body();
+        }
+
+        private void post(Step step, String path, Map<String, String> form, String expectedLocation)
+                throws InterruptedException {
+            expectRedirect(step, send(step, postForm(request(path), form)), expectedLocation);
+        }
+
+        private void expectRedirect(Step step, HttpResponse<String> response, String expectedLocation) {
+            String location = response.headers().firstValue("Location").orElse("");
+            if (response.statusCode() != 302 || !location.endsWith(expectedLocation)) {
+                throw failure(step, "statut " + response.statusCode() + ", redirection vers '" + location + "'");
+            }
+        }
+
+        private HttpResponse<String> send(Step step, HttpRequest.Builder request) throws InterruptedException {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                if (measured) {
+                    statistics.get(step).record(System.nanoTime() - start);
+                }
+                return response;
+            } catch (IOException e) {
+                throw failure(step, e.toString());
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return LoadTestSupport.request(port, path, Duration.ofSeconds(30));
+        }
+
+        private StepFailure failure(Step step, String message) {
+            if (measured) {
+                statistics.get(step).errors.increment();
+            }
+            return new StepFailure(step + " : " + message);
+        }
+
+        private String csrf(String html) {
+            return LoadTestSupport.csrf(html).orElseThrow(() -> new StepFailure("jeton CSRF absent"));
+        }
+
+        private String findId(String html, String account) {
+            Matcher matcher = Pattern.compile("<td[^>]*>(\\d+)</td>\\s*<td>" + Pattern.quote(account) + "</td>")
+                    .matcher(html);
+            if (!matcher.find()) {
+                throw failure(Step.FIND, "soumission " + account + " absente de la dernière page");
+            }
+            return matcher.group(1);
+        }
+
+        private static Map<String, String> bidForm(String account, String quantity, String csrf) {
+            Map<String, String> form = new LinkedHashMap<>();
+            form.put("account", account);
+            form.put("type", "LOAD");
+            form.put("bidQuantity", quantity);
+            form.put("_csrf", csrf);
+            return form;
+        }
+    }
+
+    /**
+     * Mesures d'une étape : toutes les durées sont conservées pour des percentiles exacts, comparables
+     * d'une exécution à l'autre.
+     */
+    private static final class StepStatistics {
+
+        private final List<Long> latencies = new ArrayList<>();
+
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void record(long nanos) {
+            latencies.add(nanos);
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] nanos = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(nanos);
+            return nanos;
+        }
+    }
+
+    private static final class StepFailure extends RuntimeException {
+
+        StepFailure(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.nnk.springboot.load;
+
+import com.nnk.springboot.datagen.GeneratorSettings;
+import com.nnk.springboot.datagen.MarketDataGenerator;
+import com.nnk.springboot.domain.User;
+import com.nnk.springboot.repositories.UserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Outillage commun aux tests de charge HTTP : paramètres {@code load.*}, jeu de données, connexion par
+ * formulaire (jeton CSRF, cookie de session), construction des requêtes et rapport des latences.
+ * <p>
+ * Chaque test ne garde que son scénario : les requêtes enchaînées et ce qui en est mesuré.
+ */
+final class LoadTestSupport {
+
+    /** Mot de passe de tous les utilisateurs créés par {@link #seed}. */
+    static final String PASSWORD = "LoadTest1!";
+
+    /** En-tête CSV des colonnes écrites par {@link #latencyCsv}. */
+    static final String LATENCY_COLUMNS = "p50_ms,p90_ms,p99_ms,max_ms";
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    private static final Pattern SESSION_COOKIE = Pattern.compile("(JSESSIONID=[^;]+)");
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    private LoadTestSupport() {
+    }
+
+    /**
+     * Durée mesurée ({@code -Dload.duration}, 30 s par défaut).
+     */
+    static Duration duration() {
+        return Duration.parse("PT" + System.getProperty("load.duration", "30s"));
+    }
+
+    /**
+     * Durée de chauffe, non mesurée ({@code -Dload.warmup}).
+     *
+     * @param defaultValue La durée par défaut du scénario, par exemple {@code "5s"}.
+     */
+    static Duration warmup(String defaultValue) {
+        return Duration.parse("PT" + System.getProperty("load.warmup", defaultValue));
+    }
+
+    /**
+     * Nombre de lignes générées pour l'entité du scénario ({@code -Dload.seed-rows}, 10 000 par défaut).
+     */
+    static long seedRows() {
+        return Long.getLong("load.seed-rows", 10_000);
+    }
+
+    /**
+     * Génère les données de marché (graine fixe) et crée les utilisateurs du test, tous avec {@link #PASSWORD}.
+     */
+    static void seed(DataSource dataSource, UserRepository userRepository, PasswordEncoder passwordEncoder,
+                     long bidLists, long trades, List<String> usernames) {
+        new MarketDataGenerator(dataSource, new GeneratorSettings(42, 1, 1_000, bidLists, trades, 0, 0, 0, 0,
+                500, 20, 50, 1_000, 1.1, LocalDate.now(), 365)).generate();
+        String hash = passwordEncoder.encode(PASSWORD);
+        userRepository.insertAll(usernames.stream().map(username -> {
+            User user = new User();
+            user.setUsername(username);
+            user.setPassword(hash);
+            user.setFullname("Load Test " + username);
+            user.setRole("USER");
+            return user;
+        }).toList());
+    }
+
+    /**
+     * Client sans suivi des redirections : chaque requête est mesurée séparément.
+     */
+    static HttpClient.Builder client() {
+        return HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10));
+    }
+
+    static HttpRequest.Builder request(int port, String path, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(timeout);
+    }
+
+    /**
+     * Complète la requête en {@code POST} d'un formulaire encodé.
+     */
+    static HttpRequest.Builder postForm(HttpRequest.Builder request, Map<String, String> form) {
+        String body = form.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return request.header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    static Map<String, String> loginForm(String username, String csrf) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("username", username);
+        form.put("password", PASSWORD);
+        form.put("_csrf", csrf);
+        return form;
+    }
+
+    /**
+     * Jeton CSRF du premier formulaire de la page.
+     */
+    static Optional<String> csrf(String html) {
+        Matcher matcher = CSRF.matcher(html);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    /**
+     * Cookie de session ({@code JSESSIONID=...}) posé par la réponse, à renvoyer dans l'en-tête {@code Cookie}.
+     */
+    static Optional<String> sessionCookie(HttpResponse<?> response) {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            Matcher matcher = SESSION_COOKIE.matcher(header);
+            if (matcher.find()) {
+                return Optional.of(matcher.group(1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Percentile exact (méthode du rang le plus proche), en millisecondes.
+     */
+    static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sortedNanos.length);
+        return sortedNanos[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    /**
+     * Percentiles 50, 90, 99 et maximum, dans l'ordre de {@link #LATENCY_COLUMNS}.
+     */
+    static String latencyCsv(long[] sortedNanos) {
+        return String.format(Locale.ROOT, "%.3f,%.3f,%.3f,%.3f", percentile(sortedNanos, 0.5),
+                percentile(sortedNanos, 0.9), percentile(sortedNanos, 0.99), percentile(sortedNanos, 1));
+    }
+
+    /**
+     * Écrit un rapport CSV dans {@code target/load-test}, en remplaçant celui de l'exécution précédente.
+     */
+    static void writeReport(String fileName, String header, List<String> rows) throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.write(REPORT_DIRECTORY.resolve(fileName), concat(header, rows));
+    }
+
+    /**
+     * Ajoute des lignes à un rapport CSV de {@code target/load-test}, créé avec son en-tête au premier appel,
+     * pour comparer les exécutions successives.
+     */
+    static void appendReport(String fileName, String header, List<String> rows) throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        Path file = REPORT_DIRECTORY.resolve(fileName);
+        if (Files.notExists(file)) {
+            Files.write(file, concat(header, rows));
+        } else {
+            Files.write(file, rows, StandardOpenOption.APPEND);
+        }
+    }
+
+    private static List<String> concat(String header, List<String> rows) {
+        return Stream.concat(Stream.of(header), rows.stream()).toList();
+    }
+}
@@ -0,0 +1,230 @@
+package com.nnk.springboot.load;
+
+import com.nnk.springboot.repositories.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.nnk.springboot.load.LoadTestSupport.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mesure du débit de {@code /trade/list} sous un grand nombre de sessions simultanées, pour comparer
+ * l'exécution des requêtes sur les threads classiques de Tomcat et sur les threads virtuels.
+ * <p>
+ * Chaque session se connecte une fois puis enchaîne les {@code GET /trade/list} sans pause. Le mode est
+ * celui de la configuration : threads virtuels avec le profil {@code virtual} (Java 21). Une exécution
+ * par mode, avec les mêmes paramètres, donne la comparaison :
+ * <pre>
+ * mvn -P load-test,java21 test -Dtest=TradeListThroughputLoadTest
+ * mvn -P load-test,java21 test -Dtest=TradeListThroughputLoadTest -Dspring.profiles.active=virtual
+ * </pre>
+ * Paramètres : {@code -Dload.sessions} (2000), {@code -Dload.duration}, {@code -Dload.warmup},
+ * {@code -Dload.seed-rows}. Chaque exécution ajoute une ligne à
+ * {@code target/load-test/trade-list-throughput.csv}.
+ * <p>
+ * Le contrôle d'admission est désactivé pour mesurer le débit brut, et la force BCrypt abaissée pour que
+ * les connexions initiales ne dominent pas la montée en charge.
+ *
+ * @see LoadTestSupport
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:throughput;MODE=MySQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "logging.level.com.nnk.springboot=WARN",
+        "app.security.login-throttle.enabled=false",
+        "app.admission.enabled=false",
+        "app.security.bcrypt.strength=4"})
+class TradeListThroughputLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TradeListThroughputLoadTest.class);
+
+    private static final String USERNAME = "throughput";
+
+    /** Part maximale de requêtes en erreur tolérée. */
+    private static final double MAX_ERROR_RATIO = 0.01;
+
+    private final int sessions = Integer.getInteger("load.sessions", 2000);
+
+    private final Duration duration = duration();
+
+    private final Duration warmup = warmup("15s");
+
+    private final LongAdder errors = new LongAdder();
+
+    /** Client partagé : le cookie de session est porté par chaque requête, pas par le client. */
+    private final HttpClient client = client().build();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("Charge : débit de la liste des transactions sous de nombreuses sessions simultanées")
+    void tradeListThroughputTest() throws Exception {
+        seed(dataSource, userRepository, passwordEncoder, 0, seedRows(), List.of(USERNAME));
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        // Le client reste sur des threads classiques dans les deux modes : seule l'exécution côté serveur change
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        List<Future<long[]>> futures = new ArrayList<>(sessions);
+        try {
+            for (int i = 0; i < sessions; i++) {
+                futures.add(executor.submit(new Session(measureFrom, end)::run));
+            }
+            List<long[]> latencies = new ArrayList<>(sessions);
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+            long[] nanos = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            report(nanos);
+            assertTrue(nanos.length > 0, "aucune requête mesurée");
+            assertTrue(errors.sum() <= (nanos.length + errors.sum()) * MAX_ERROR_RATIO,
+                    errors.sum() + " requêtes en erreur pour " + nanos.length + " réussies");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void report(long[] sortedNanos) throws IOException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        double throughput = sortedNanos.length / (duration.toNanos() / 1e9);
+        logger.warn("/trade/list, threads {} (Java {}) : {} sessions, {} s mesurées, {} requêtes ({} /s), "
+                        + "{} en erreur, p50 {} ms, p99 {} ms", mode, Runtime.version().feature(), sessions,
+                duration.toSeconds(), sortedNanos.length, String.format(Locale.ROOT, "%.1f", throughput),
+                errors.sum(), String.format(Locale.ROOT, "%.2f", percentile(sortedNanos, 0.5)),
+                String.format(Locale.ROOT, "%.2f", percentile(sortedNanos, 0.99)));
+        appendReport("trade-list-throughput.csv",
+                "mode,java,sessions,duration_s,requests,errors,throughput," + LATENCY_COLUMNS,
+                List.of(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%.2f,%s", mode, Runtime.version().feature(),
+                        sessions, duration.toSeconds(), sortedNanos.length, errors.sum(), throughput,
+                        latencyCsv(sortedNanos))));
+    }
+
+    /**
+     * Session : son cookie de session et ses durées, conservées localement (sans verrou partagé entre
+     * sessions) et rendues à la fin.
+     */
+    private final class Session {
+
+        private final long measureFrom;
+
+        private final long end;
+
+        private String cookie;
+
+        private long[] latencies = new long[1024];
+
+        private int count;
+
+        Session(long measureFrom, long end) {
+            this.measureFrom = measureFrom;
+            this.end = end;
+        }
+
+        long[] run() throws InterruptedException {
+            if (!login()) {
+                return new long[0];
+            }
+            HttpRequest list = request("/trade/list").GET().build();
+            while (System.nanoTime() < end) {
+                long start = System.nanoTime();
+                boolean ok = send(list) == 200;
+                long elapsed = System.nanoTime() - start;
+                if (start < measureFrom) {
+                    continue;
+                }
+                if (!ok) {
+                    errors.increment();
+                } else {
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = elapsed;
+                }
+            }
+            return Arrays.copyOf(latencies, count);
+        }
+
+        private boolean login() throws InterruptedException {
+            try {
+                HttpResponse<String> page = client.send(request("/login").GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                String csrf = LoadTestSupport.csrf(page.body()).orElseThrow(() -> new IOException("jeton CSRF absent"));
+                cookie = sessionCookie(page);
+                HttpResponse<Void> response = client.send(postForm(request("/login"), loginForm(USERNAME, csrf)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 302 || response.headers().firstValue("Location").orElse("").contains("error")) {
+                    throw new IOException("connexion refusée, statut " + response.statusCode());
+                }
+                // Nouvel identifiant de session après connexion (protection contre la fixation de session)
+                cookie = sessionCookie(response);
+                return true;
+            } catch (IOException e) {
+                errors.increment();
+                logger.debug("Connexion en échec : {}", e.toString());
+                return false;
+            }
+        }
+
+        private int send(HttpRequest request) throws InterruptedException {
+            try {
+                return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                logger.debug("Requête en échec : {}", e.toString());
+                return -1;
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = LoadTestSupport.request(port, path, Duration.ofSeconds(60));
+            return cookie == null ? builder : builder.header("Cookie", cookie);
+        }
+
+        private String sessionCookie(HttpResponse<?> response) throws IOException {
+            Optional<String> issued = LoadTestSupport.sessionCookie(response);
+            if (issued.isEmpty() && cookie == null) {
+                throw new IOException("cookie de session absent");
+            }
+            return issued.orElse(cookie);
+        }
+    }
+}
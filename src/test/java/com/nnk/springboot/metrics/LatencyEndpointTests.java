@@ -0,0 +1,58 @@
+package com.nnk.springboot.metrics;
+
+import com.nnk.springboot.repositories.RatingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests de la mesure de latence des handlers et repositories, et de son export Prometheus.
+ */
+@SpringBootTest
+@Transactional
+class LatencyEndpointTests {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private MethodMetrics methodMetrics;
+
+    @Autowired
+    private LatencyEndpoint latencyEndpoint;
+
+    @Test
+    void recordsHandlerAndRepositoryLatency() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        long handlerCount = methodMetrics.timer(MethodMetrics.Kind.HANDLER, "RatingController.home").latency().count();
+        MethodMetrics.Timer findAll = methodMetrics.timer(MethodMetrics.Kind.REPOSITORY, "RatingRepository.findAll");
+        long findAllCount = findAll.latency().count();
+        long rows = findAll.rows();
+
+        mockMvc.perform(get("/rating/list")).andExpect(status().isOk());
+        int size = ratingRepository.findAll().size();
+
+        assertEquals(handlerCount + 1, methodMetrics.timer(MethodMetrics.Kind.HANDLER, "RatingController.home").latency().count());
+        assertEquals(findAllCount + 1, findAll.latency().count());
+        assertEquals(rows + size, findAll.rows());
+
+        String scrape = latencyEndpoint.scrape();
+        assertTrue(scrape.contains("# TYPE app_handler_latency_seconds histogram"));
+        assertTrue(scrape.contains("app_handler_latency_seconds_bucket{handler=\"RatingController.home\",le=\"+Inf\"}"));
+        assertTrue(scrape.contains("app_handler_latency_quantile_seconds{handler=\"RatingController.home\",quantile=\"0.999\"}"));
+        assertTrue(scrape.contains("app_repository_latency_seconds_count{repository=\"RatingRepository.findAll\"}"));
+        assertTrue(scrape.contains("app_repository_rows_total{repository=\"RatingRepository.findAll\"}"));
+        assertTrue(scrape.contains("le=\"0.00001\""));
+    }
+}
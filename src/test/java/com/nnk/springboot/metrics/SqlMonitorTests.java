@@ -0,0 +1,63 @@
+package com.nnk.springboot.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'agrégation des requêtes SQL par forme normalisée.
+ */
+class SqlMonitorTests {
+
+    private final SqlMonitor sqlMonitor = new SqlMonitor(true, Duration.ofMillis(100), 0, 3);
+
+    @Test
+    @DisplayName("Les littéraux et listes de paramètres sont remplacés par ?")
+    void normalize() {
+        assertEquals("select * from trade where account = ? and trade_id in (?)",
+                sqlMonitor.normalize("select *  from trade\n where account = 'O''Brien' and trade_id in (?, ?,?)"));
+        assertEquals("select t1_0.id from rating t1_0 where t1_0.order_number > ?",
+                sqlMonitor.normalize("select t1_0.id from rating t1_0 where t1_0.order_number > 42"));
+        assertEquals("insert into bidlist (account, type) values (?)",
+                sqlMonitor.normalize("insert into bidlist (account, type) values (?, ?), (?, ?),(?,?)"));
+    }
+
+    @Test
+    @DisplayName("Les requêtes sont agrégées par forme normalisée et classées par temps cumulé")
+    void topStatements() {
+        sqlMonitor.record("select * from trade where trade_id = 1", TimeUnit.MILLISECONDS.toNanos(2));
+        sqlMonitor.record("select * from trade where trade_id = 2", TimeUnit.MILLISECONDS.toNanos(3));
+        sqlMonitor.record("select * from rating", TimeUnit.MILLISECONDS.toNanos(150));
+
+        List<SqlMonitor.StatementStatistics> top = sqlMonitor.topStatements(10);
+
+        assertEquals(2, top.size());
+        assertEquals("select * from rating", top.get(0).sql());
+        assertEquals(1, top.get(0).slowCount());
+        assertEquals("select * from trade where trade_id = ?", top.get(1).sql());
+        assertEquals(2, top.get(1).count());
+        assertEquals(5.0, top.get(1).totalMillis(), 0.001);
+        assertEquals(0, top.get(1).slowCount());
+    }
+
+    @Test
+    @DisplayName("Au-delà du nombre maximal de requêtes suivies, les mesures sont regroupées")
+    void boundedStatements() {
+        for (int i = 0; i < 5; i++) {
+            sqlMonitor.record("select * from table_" + (char) ('a' + i), 1_000);
+        }
+
+        List<SqlMonitor.StatementStatistics> top = sqlMonitor.topStatements(10);
+
+        assertEquals(4, top.size());
+        assertTrue(top.stream().anyMatch(s -> s.sql().equals(SqlMonitor.OTHER_STATEMENTS) && s.count() == 2));
+
+        sqlMonitor.reset();
+        assertTrue(sqlMonitor.topStatements(10).isEmpty());
+    }
+}
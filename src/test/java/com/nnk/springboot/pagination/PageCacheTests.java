@@ -0,0 +1,136 @@
+package com.nnk.springboot.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de {@link PageCache}.
+ */
+class PageCacheTests {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Slice<String> load(Pageable pageable) {
+        loads.incrementAndGet();
+        return new SliceImpl<>(List.of("a" + loads.get()), pageable, false);
+    }
+
+    @Test
+    @DisplayName("Même page -> servie par le cache ; tri ou taille différents -> nouvelle entrée")
+    void testHitOnSameKey() {
+        PageCache cache = new PageCache(true, 10, 20, 10);
+        Pageable first = PageRequest.of(0, 5);
+
+        Slice<String> loaded = cache.get(String.class, first, () -> load(first));
+        assertSame(loaded, cache.get(String.class, first, () -> load(first)));
+        assertEquals(1, loads.get());
+
+        Pageable sorted = PageRequest.of(0, 5, Sort.by("id"));
+        cache.get(String.class, sorted, () -> load(sorted));
+        Pageable larger = PageRequest.of(0, 10);
+        cache.get(String.class, larger, () -> load(larger));
+        assertEquals(3, loads.get());
+
+        PageCache.Statistics stats = cache.statistics().get("String");
+        assertEquals(1, stats.hits());
+        assertEquals(3, stats.misses());
+        assertEquals(3, stats.entries());
+    }
+
+    @Test
+    @DisplayName("Écriture -> les pages du type sont rechargées, les autres types restent en cache")
+    void testInvalidate() {
+        PageCache cache = new PageCache(true, 10, 20, 10);
+        Pageable first = PageRequest.of(0, 5);
+        cache.get(String.class, first, () -> load(first));
+        cache.get(Integer.class, first, () -> new SliceImpl<>(List.of(1), first, false));
+
+        cache.invalidate(String.class);
+
+        assertEquals(List.of("a2"), cache.get(String.class, first, () -> load(first)).getContent());
+        assertEquals(List.of(1), cache.get(Integer.class, first, () -> fail("page Integer rechargée")).getContent());
+        assertEquals(1, cache.statistics().get("String").generation());
+    }
+
+    @Test
+    @DisplayName("Écriture dans une transaction -> une page relue avant la validation n'est plus servie ensuite")
+    void testInvalidateAfterTransactionCompletion() {
+        PageCache cache = new PageCache(true, 10, 20, 10);
+        Pageable first = PageRequest.of(0, 5);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(String.class);
+            // Lecture concurrente entre l'écriture et la validation : la page ne contient pas la modification
+            cache.get(String.class, first, () -> load(first));
+            assertEquals(1, cache.statistics().get("String").generation());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of("a2"), cache.get(String.class, first, () -> load(first)).getContent());
+        assertEquals(2, cache.statistics().get("String").generation());
+    }
+
+    @Test
+    @DisplayName("Nombre d'entrées borné -> éviction de la page la moins récemment lue")
+    void testLruEviction() {
+        PageCache cache = new PageCache(true, 2, 20, 10);
+        Pageable p0 = PageRequest.of(0, 5);
+        Pageable p1 = PageRequest.of(1, 5);
+        Pageable p2 = PageRequest.of(2, 5);
+        cache.get(String.class, p0, () -> load(p0));
+        cache.get(String.class, p1, () -> load(p1));
+        cache.get(String.class, p0, () -> load(p0));
+        cache.get(String.class, p2, () -> load(p2));
+
+        assertEquals(3, loads.get());
+        cache.get(String.class, p0, () -> load(p0));
+        assertEquals(3, loads.get());
+        cache.get(String.class, p1, () -> load(p1));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Page plus grande que celles des écrans de liste ou trop lointaine -> chargée hors cache")
+    void testLargeOrDistantPagesBypassCache() {
+        PageCache cache = new PageCache(true, 10, 20, 2);
+        Pageable large = PageRequest.of(0, 1000);
+        Pageable distant = PageRequest.of(2, 20);
+        cache.get(String.class, large, () -> load(large));
+        cache.get(String.class, large, () -> load(large));
+        cache.get(String.class, distant, () -> load(distant));
+        cache.get(String.class, distant, () -> load(distant));
+        assertEquals(4, loads.get());
+
+        Pageable listPage = PageRequest.of(1, 20);
+        cache.get(String.class, listPage, () -> load(listPage));
+        cache.get(String.class, listPage, () -> load(listPage));
+        assertEquals(5, loads.get());
+        assertEquals(1, cache.statistics().get("String").entries());
+    }
+
+    @Test
+    @DisplayName("Cache désactivé -> chargement à chaque appel")
+    void testDisabled() {
+        PageCache cache = new PageCache(false, 10, 20, 10);
+        Pageable first = PageRequest.of(0, 5);
+        cache.get(String.class, first, () -> load(first));
+        cache.get(String.class, first, () -> load(first));
+        assertEquals(2, loads.get());
+    }
+}
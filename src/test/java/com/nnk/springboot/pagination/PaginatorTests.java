@@ -0,0 +1,73 @@
+package com.nnk.springboot.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires de {@link Paginator} pour chacun des modes de pagination.
+ */
+class PaginatorTests {
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private Slice<String> slice(Pageable pageable) {
+        return new SliceImpl<>(List.of("a", "b"), pageable, true);
+    }
+
+    private Page<String> page(Pageable pageable) {
+        counts.incrementAndGet();
+        return new PageImpl<>(List.of("a", "b"), pageable, 10);
+    }
+
+    private long count() {
+        counts.incrementAndGet();
+        return 10;
+    }
+
+    @Test
+    @DisplayName("Mode SLICE -> aucune requête de comptage")
+    void testSliceModeDoesNotCount() {
+        Paginator paginator = new Paginator(PaginationMode.SLICE, new CountEstimator(60));
+
+        Slice<String> result = paginator.paginate(String.class, PageRequest.of(0, 2), this::slice, this::page, this::count);
+
+        assertFalse(result instanceof Page);
+        assertTrue(result.hasNext());
+        assertEquals(0, counts.get());
+    }
+
+    @Test
+    @DisplayName("Mode ESTIMATED -> comptage mis en cache entre deux appels")
+    void testEstimatedModeCachesCount() {
+        Paginator paginator = new Paginator(PaginationMode.ESTIMATED, new CountEstimator(60));
+
+        Slice<String> first = paginator.paginate(String.class, PageRequest.of(0, 2), this::slice, this::page, this::count);
+        Slice<String> second = paginator.paginate(String.class, PageRequest.of(1, 2), this::slice, this::page, this::count);
+
+        assertEquals(5, ((Page<String>) first).getTotalPages());
+        assertEquals(5, ((Page<String>) second).getTotalPages());
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    @DisplayName("Mode PAGE -> comptage exact à chaque appel")
+    void testPageModeCountsEveryTime() {
+        Paginator paginator = new Paginator(PaginationMode.PAGE, new CountEstimator(60));
+
+        paginator.paginate(String.class, PageRequest.of(0, 2), this::slice, this::page, this::count);
+        paginator.paginate(String.class, PageRequest.of(1, 2), this::slice, this::page, this::count);
+
+        assertEquals(2, counts.get());
+    }
+}
@@ -0,0 +1,51 @@
+package com.nnk.springboot.schema;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de {@link IndexAuditor}.
+ */
+@SpringBootTest
+class IndexAuditorTests {
+
+    @Autowired
+    private IndexAuditor indexAuditor;
+
+    @Test
+    @DisplayName("Index attendus déduits des entités et des requêtes dérivées des repositories")
+    void testExpectedIndexes() {
+        List<IndexAuditor.MissingIndex> expected = indexAuditor.expectedIndexes();
+
+        assertTrue(expected.stream().anyMatch(index -> index.table().equals("users")
+                && index.columns().equals(List.of("username"))
+                && index.usedBy().equals("UserRepository.findByUsername")));
+        assertTrue(expected.stream().anyMatch(index -> index.table().equals("trade")
+                && index.columns().equals(List.of("account", "trade_date"))));
+        assertTrue(expected.stream().anyMatch(index -> index.table().equals("bidlist")
+                && index.columns().equals(List.of("bid_list_id"))));
+    }
+
+    @Test
+    @DisplayName("Schéma migré -> aucun index manquant")
+    void testNoMissingIndex() throws Exception {
+        assertEquals(List.of(), indexAuditor.findMissingIndexes());
+    }
+
+    @Test
+    @DisplayName("Un index couvre une recherche s'il commence par ses colonnes")
+    void testIsCovered() {
+        List<List<String>> indexes = List.of(List.of("id"), List.of("account", "type"));
+
+        assertTrue(IndexAuditor.isCovered(List.of("account"), indexes));
+        assertTrue(IndexAuditor.isCovered(List.of("type", "account"), indexes));
+        assertFalse(IndexAuditor.isCovered(List.of("type"), indexes));
+        assertFalse(IndexAuditor.isCovered(List.of("account", "type", "book"), indexes));
+    }
+}
@@ -0,0 +1,105 @@
+package com.nnk.springboot.web;
+
+import com.nnk.springboot.metrics.ConnectionPoolMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du contrôle d'admission, avec une instrumentation de pool simulée.
+ */
+class AdmissionControlFilterTests {
+
+    /**
+     * Pool simulé : nombre de demandes en attente fixé, et attente qui réussit ou expire.
+     */
+    private static class StubMonitor extends ConnectionPoolMonitor {
+
+        private final int pending;
+
+        private final boolean drains;
+
+        StubMonitor(int pending, boolean drains) {
+            this.pending = pending;
+            this.drains = drains;
+        }
+
+        @Override
+        public int pendingConnections() {
+            return pending;
+        }
+
+        @Override
+        public boolean awaitPendingAtMost(int threshold, Duration timeout) {
+            return drains;
+        }
+    }
+
+    @Test
+    @DisplayName("Sous le seuil, la requête est admise directement")
+    void admitsBelowThreshold() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new StubMonitor(2, false), true, 5, Duration.ofMillis(100), 10);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/trade/list"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(1, filter.statistics().admitted());
+        assertEquals(0, filter.statistics().delayed());
+    }
+
+    @Test
+    @DisplayName("Au-delà du seuil, la requête est admise si la file se résorbe pendant l'attente")
+    void admitsAfterBoundedWait() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new StubMonitor(20, true), true, 5, Duration.ofMillis(100), 10);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/trade/list"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(1, filter.statistics().delayed());
+    }
+
+    @Test
+    @DisplayName("Au-delà du seuil, la requête est refusée en 503 si la file ne se résorbe pas")
+    void rejectsWhenSaturated() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new StubMonitor(20, false), true, 5, Duration.ofMillis(100), 10);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/trade/list"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals(1, filter.statistics().rejected());
+    }
+
+    @Test
+    @DisplayName("Sans attente configurée, la requête est refusée immédiatement")
+    void failsFastWithoutWait() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new StubMonitor(20, true), true, 5, Duration.ZERO, 10);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/trade/list"), response, new MockFilterChain());
+
+        assertEquals(503, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Les ressources statiques et l'Actuator ne sont pas filtrés")
+    void skipsExcludedPaths() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new StubMonitor(20, false), true, 5, Duration.ZERO, 10);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,65 @@
+package com.nnk.springboot.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du limiteur GCRA, avec une horloge contrôlée.
+ */
+class GcraRateLimiterTests {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("Une rafale de burst demandes est acceptée, la suivante attend un intervalle d'émission")
+    void burstTest() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1_024, 3, 6, Duration.ofMinutes(1), now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("alice"));
+        }
+        long wait = limiter.tryAcquire("alice");
+        assertEquals(TimeUnit.SECONDS.toNanos(10), wait);
+
+        now.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertTrue(limiter.tryAcquire("alice") > 0);
+    }
+
+    @Test
+    @DisplayName("Un seau inutilisé se recharge entièrement, les clés sont indépendantes")
+    void refillTest() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1_024, 2, 6, Duration.ofMinutes(1), now::get);
+        limiter.tryAcquire("alice");
+        limiter.tryAcquire("alice");
+        assertTrue(limiter.tryAcquire("alice") > 0);
+        assertEquals(0, limiter.tryAcquire("bob"));
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertEquals(0, limiter.tryAcquire("alice"));
+        assertTrue(limiter.tryAcquire("alice") > 0);
+    }
+
+    @Test
+    @DisplayName("Avec peu de cases, une clé abusive ne bloque pas toutes les autres")
+    void collisionTest() {
+        GcraRateLimiter limiter = new GcraRateLimiter(64, 1, 1, Duration.ofHours(1), now::get);
+        limiter.tryAcquire("attacker");
+
+        int blocked = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (limiter.tryAcquire("user" + i) > 0) {
+                blocked++;
+            }
+            now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        }
+        assertEquals(0, blocked);
+    }
+}
@@ -0,0 +1,128 @@
+package com.nnk.springboot.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import jakarta.servlet.Filter;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la limitation des tentatives de connexion.
+ */
+@SpringBootTest
+class LoginThrottleFilterTests {
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Test
+    @DisplayName("Au-delà de la rafale par nom d'utilisateur, la tentative est refusée en 429 sans être transmise")
+    void rejectsByUsername() throws Exception {
+        LoginThrottleFilter filter = filter(100, 2);
+
+        assertNotNull(login(filter, "10.0.0.1", "alice").getRequest());
+        assertNotNull(login(filter, "10.0.0.2", "Alice").getRequest());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("10.0.0.3", "ALICE "), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("30", response.getHeader("Retry-After"));
+        assertEquals(1, filter.statistics().rejectedByUsername());
+        assertNotNull(login(filter, "10.0.0.3", "bob").getRequest());
+    }
+
+    @Test
+    @DisplayName("Au-delà de la rafale par adresse IP, la tentative est refusée quel que soit l'utilisateur")
+    void rejectsByAddress() throws Exception {
+        LoginThrottleFilter filter = filter(2, 100);
+
+        login(filter, "10.0.0.1", "alice");
+        login(filter, "10.0.0.1", "bob");
+
+        assertNull(login(filter, "10.0.0.1", "carol").getRequest());
+        assertEquals(1, filter.statistics().rejectedByAddress());
+        assertNotNull(login(filter, "10.0.0.2", "carol").getRequest());
+    }
+
+    @Test
+    @DisplayName("Un chemin de connexion encodé est limité comme /login")
+    void rejectsEncodedLoginPath() throws Exception {
+        LoginThrottleFilter filter = filter(1, 100);
+        login(filter, "10.0.0.1", "alice");
+
+        // Le conteneur décode le chemin de servlet, comme le voit l'authentification par formulaire
+        MockHttpServletRequest request = request("10.0.0.1", "bob");
+        request.setRequestURI("/log%69n");
+        request.setServletPath("/login");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(1, filter.statistics().rejectedByAddress());
+    }
+
+    @Test
+    @DisplayName("Les autres requêtes ne sont pas limitées")
+    void ignoresOtherRequests() throws Exception {
+        LoginThrottleFilter filter = filter(1, 1);
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/login"), new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+        assertEquals(0, filter.statistics().allowed());
+    }
+
+    @Test
+    @DisplayName("Le filtre est placé dans la chaîne de sécurité avant l'authentification par formulaire")
+    void registeredBeforeAuthentication() {
+        List<Filter> filters = filterChainProxy.getFilters("/login");
+        int throttle = indexOf(filters, LoginThrottleFilter.class);
+        int authentication = indexOf(filters, UsernamePasswordAuthenticationFilter.class);
+
+        assertTrue(throttle >= 0 && throttle < authentication);
+    }
+
+    private static int indexOf(List<Filter> filters, Class<?> type) {
+        for (int i = 0; i < filters.size(); i++) {
+            if (type.isInstance(filters.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static LoginThrottleFilter filter(int addressBurst, int usernameBurst) {
+        return new LoginThrottleFilter(true,
+                new GcraRateLimiter(1_024, addressBurst, 2, Duration.ofMinutes(1)),
+                new GcraRateLimiter(1_024, usernameBurst, 2, Duration.ofMinutes(1)));
+    }
+
+    private static MockFilterChain login(LoginThrottleFilter filter, String address, String username) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(address, username), new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    private static MockHttpServletRequest request(String address, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setRemoteAddr(address);
+        request.setParameter("username", username);
+        request.setParameter("password", "secret");
+        return request;
+    }
+}